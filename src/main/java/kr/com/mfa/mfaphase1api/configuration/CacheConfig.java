@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
@@ -28,7 +29,8 @@ public class CacheConfig {
                 .disableCachingNullValues();
 
         Map<String, RedisCacheConfiguration> perCache = Map.of(
-                "users", defaults.entryTtl(Duration.ofMinutes(5))
+                "users", defaults.entryTtl(Duration.ofMinutes(5)),
+                "memberships", defaults.entryTtl(Duration.ofMinutes(10))
         );
 
         return RedisCacheManager.builder(factory)
@@ -36,4 +38,11 @@ public class CacheConfig {
                 .withInitialCacheConfigurations(perCache)
                 .build();
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
 }
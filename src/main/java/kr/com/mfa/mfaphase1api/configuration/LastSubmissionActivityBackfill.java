@@ -0,0 +1,30 @@
+package kr.com.mfa.mfaphase1api.configuration;
+
+import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fills last_submission_activity_at for assessments that had submissions before the column existed, so
+ * they keep showing up in the "recent" dashboards. Only NULL rows are written, so every startup can run it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastSubmissionActivityBackfill implements ApplicationRunner {
+
+    private final AssessmentRepository assessmentRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int filled = assessmentRepository.backfillMissingLastSubmissionActivity();
+        if (filled > 0) {
+            log.info("Backfilled last submission activity for {} assessments", filled);
+        }
+    }
+}
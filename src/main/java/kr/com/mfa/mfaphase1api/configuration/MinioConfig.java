@@ -5,6 +5,7 @@ import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.util.concurrent.TimeUnit;
 
@@ -20,7 +21,15 @@ public class MinioConfig {
     @Value("${minio.secret-key}")
     private String accessSecret;
 
+    // Host clients reach storage on; it is part of the presigned URL signature, so it cannot be rewritten later
+    @Value("${minio.public-url:${minio.url}}")
+    private String publicUrl;
+
+    @Value("${minio.region:us-east-1}")
+    private String region;
+
     @Bean
+    @Primary
     public MinioClient minioClient() {
         OkHttpClient httpClient = new OkHttpClient.Builder()
                 .connectTimeout(5, TimeUnit.SECONDS)
@@ -34,4 +43,14 @@ public class MinioConfig {
                 .httpClient(httpClient)
                 .build();
     }
+
+    // Only signs URLs; the fixed region keeps presigning from calling the public host for the bucket location
+    @Bean
+    public MinioClient presignedMinioClient() {
+        return MinioClient.builder()
+                .endpoint(publicUrl)
+                .region(region)
+                .credentials(accessKey, accessSecret)
+                .build();
+    }
 }
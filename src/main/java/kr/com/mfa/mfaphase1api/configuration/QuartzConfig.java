@@ -0,0 +1,69 @@
+package kr.com.mfa.mfaphase1api.configuration;
+
+import kr.com.mfa.mfaphase1api.job.AnswerDraftFlushJob;
+import kr.com.mfa.mfaphase1api.job.AssessmentStatsFlushJob;
+import kr.com.mfa.mfaphase1api.job.FileDeletionPurgeJob;
+import org.quartz.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QuartzConfig {
+
+    @Bean
+    public JobDetail fileDeletionPurgeJobDetail() {
+        return JobBuilder.newJob(FileDeletionPurgeJob.class)
+                .withIdentity("file-deletion-purge", "maintenance")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger fileDeletionPurgeTrigger(JobDetail fileDeletionPurgeJobDetail) {
+        return TriggerBuilder.newTrigger()
+                .forJob(fileDeletionPurgeJobDetail)
+                .withIdentity("file-deletion-purge-trigger", "maintenance")
+                .withSchedule(SimpleScheduleBuilder
+                        .repeatSecondsForever(30)
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+
+    @Bean
+    public JobDetail answerDraftFlushJobDetail() {
+        return JobBuilder.newJob(AnswerDraftFlushJob.class)
+                .withIdentity("answer-draft-flush", "maintenance")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger answerDraftFlushTrigger(JobDetail answerDraftFlushJobDetail) {
+        return TriggerBuilder.newTrigger()
+                .forJob(answerDraftFlushJobDetail)
+                .withIdentity("answer-draft-flush-trigger", "maintenance")
+                .withSchedule(SimpleScheduleBuilder
+                        .repeatSecondsForever(10)
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+
+    @Bean
+    public JobDetail assessmentStatsFlushJobDetail() {
+        return JobBuilder.newJob(AssessmentStatsFlushJob.class)
+                .withIdentity("assessment-stats-flush", "maintenance")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger assessmentStatsFlushTrigger(JobDetail assessmentStatsFlushJobDetail) {
+        return TriggerBuilder.newTrigger()
+                .forJob(assessmentStatsFlushJobDetail)
+                .withIdentity("assessment-stats-flush-trigger", "maintenance")
+                .withSchedule(SimpleScheduleBuilder
+                        .repeatSecondsForever(5)
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
@@ -2,9 +2,11 @@ package kr.com.mfa.mfaphase1api.configuration.interceptor;
 
 import feign.RequestInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
+import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -30,8 +32,13 @@ public class FeignClientInterceptorConfig {
 
     private String getAuthorizationFromRequest() {
         var attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attrs == null) return null;
-        HttpServletRequest req = attrs.getRequest();
-        return req.getHeader("Authorization");
+        if (attrs != null) {
+            HttpServletRequest req = attrs.getRequest();
+            return req.getHeader("Authorization");
+        }
+
+        // Off the request thread (async responses, background refreshes) only the security context is propagated
+        Jwt jwt = JwtUtils.getJwt();
+        return jwt != null ? "Bearer " + jwt.getTokenValue() : null;
     }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import kr.com.mfa.mfaphase1api.model.annotation.AuditAction;
 import kr.com.mfa.mfaphase1api.model.dto.request.AnswerRequest;
+import kr.com.mfa.mfaphase1api.model.dto.request.GradingPageRequest;
 import kr.com.mfa.mfaphase1api.model.dto.request.UpdateAnswerRequest;
 import kr.com.mfa.mfaphase1api.model.dto.response.*;
 import kr.com.mfa.mfaphase1api.model.enums.AnswerProperty;
@@ -219,4 +220,27 @@ public class AnswerController {
                 answerService.bulkUpdateAnswer(submissionId, request),
                 HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    @AuditAction("SAVE_GRADING_PAGE")
+    @PreAuthorize("hasAnyRole('INSTRUCTOR')")
+    @PutMapping("/submissions/{submissionId}/grading-page")
+    @Operation(
+            summary = "Save grading page",
+            description = "Saves answer points, annotations and feedback comments of a submission in one transaction.",
+            tags = {"Answer"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success",
+                            content = @Content(schema = @Schema(implementation = GradingPageResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Submission, answer, paper or annotation not found")
+            }
+    )
+    public ResponseEntity<APIResponse<GradingPageResponse>> saveGradingPage(
+            @Parameter(description = "Submission ID", required = true, in = ParameterIn.PATH)
+            @PathVariable UUID submissionId,
+            @RequestBody @Valid GradingPageRequest request
+    ) {
+        return buildResponse("Grading page saved successfully",
+                answerService.saveGradingPage(submissionId, request),
+                HttpStatus.OK);
+    }
+}
@@ -18,6 +18,7 @@ import kr.com.mfa.mfaphase1api.model.dto.response.*;
 import kr.com.mfa.mfaphase1api.model.enums.AssessmentProperty;
 import kr.com.mfa.mfaphase1api.model.enums.ResourceKind;
 import kr.com.mfa.mfaphase1api.service.AssessmentService;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -38,6 +39,7 @@ import static kr.com.mfa.mfaphase1api.utils.ResponseUtil.buildResponse;
 public class AssessmentController {
 
     private final AssessmentService assessmentService;
+    private final AssessmentStatsService assessmentStatsService;
 
     @AuditAction("CREATE_ASSESSMENT")
     @PreAuthorize("hasAnyRole('INSTRUCTOR')")
@@ -363,4 +365,20 @@ public class AssessmentController {
                 HttpStatus.OK
         );
     }
-}
\ No newline at end of file
+
+    @AuditAction("REBUILD_ASSESSMENT_STATS")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/assessments/stats/rebuild")
+    @Operation(
+            summary = "Rebuild assessment statistics",
+            description = "Recomputes the per-assessment submission counters and last-activity timestamps from the submissions table, and the score totals of unpublished submissions. Returns the number of assessments rebuilt.",
+            tags = {"Assessment"}
+    )
+    public ResponseEntity<APIResponse<Integer>> rebuildAssessmentStats() {
+        return buildResponse(
+                "Assessment statistics rebuilt successfully",
+                assessmentStatsService.rebuildAll(),
+                HttpStatus.OK
+        );
+    }
+}
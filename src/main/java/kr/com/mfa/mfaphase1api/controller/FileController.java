@@ -5,10 +5,13 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import kr.com.mfa.mfaphase1api.model.annotation.AuditAction;
+import kr.com.mfa.mfaphase1api.model.dto.request.PresignedUploadRequest;
 import kr.com.mfa.mfaphase1api.model.dto.response.APIResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.PresignedUrlResponse;
 import kr.com.mfa.mfaphase1api.model.entity.FileMetadata;
 import kr.com.mfa.mfaphase1api.service.FileService;
 import lombok.RequiredArgsConstructor;
@@ -82,6 +85,74 @@ public class FileController {
         return buildResponse("File uploaded successfully", saved, HttpStatus.CREATED);
     }
 
+    @AuditAction("CREATE_UPLOAD_URL")
+    @PostMapping("/presigned-upload")
+    @Operation(
+            summary = "Create presigned upload URL",
+            description = "Returns a short-lived URL the client uses to PUT the file directly to storage, sending the listed headers. Call the complete endpoint afterwards to get the file metadata.",
+            tags = {"File"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Upload URL created successfully",
+                            content = @Content(schema = @Schema(implementation = PresignedUrlResponse.class))
+                    )
+            }
+    )
+    public ResponseEntity<APIResponse<PresignedUrlResponse>> createUploadUrl(
+            @RequestBody @Valid PresignedUploadRequest request
+    ) {
+        PresignedUrlResponse response = fileService.createUploadUrl(request.getFileName(), request.getContentType());
+        return buildResponse("Upload URL created successfully", response, HttpStatus.CREATED);
+    }
+
+    @AuditAction("COMPLETE_UPLOAD")
+    @PostMapping("/complete/{file-name}")
+    @Operation(
+            summary = "Complete presigned upload",
+            description = "Confirms a file uploaded through a presigned URL exists in storage and returns its metadata.",
+            tags = {"File"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "File uploaded successfully",
+                            content = @Content(schema = @Schema(implementation = FileMetadata.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "File exceeds the maximum size"),
+                    @ApiResponse(responseCode = "404", description = "File not found")
+            }
+    )
+    public ResponseEntity<APIResponse<FileMetadata>> completeUpload(
+            @PathVariable("file-name") @NotNull String fileName
+    ) {
+        FileMetadata saved = fileService.completeUpload(fileName);
+        return buildResponse("File uploaded successfully", saved, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/presigned-download/{file-name}")
+    @Operation(
+            summary = "Create presigned download URL",
+            description = "Returns a short-lived URL the client uses to GET the file directly from storage.",
+            tags = {"File"},
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Download URL created successfully",
+                            content = @Content(schema = @Schema(implementation = PresignedUrlResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "404", description = "File not found")
+            }
+    )
+    public ResponseEntity<APIResponse<PresignedUrlResponse>> createDownloadUrl(
+            @PathVariable("file-name") @NotNull String fileName
+    ) {
+        return buildResponse(
+                "Download URL created successfully",
+                fileService.createDownloadUrl(fileName),
+                HttpStatus.OK
+        );
+    }
+
     @GetMapping(value = "/preview/{file-name}")
 @Operation(
         summary = "Preview",
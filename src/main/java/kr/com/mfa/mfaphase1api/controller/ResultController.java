@@ -5,24 +5,37 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import kr.com.mfa.mfaphase1api.model.annotation.AuditAction;
 import kr.com.mfa.mfaphase1api.model.dto.response.APIResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.AutoGradingResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.BulkGradeResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.CursorPagedResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PagedResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.PublishResultResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.StudentResponseResultSummary;
 import kr.com.mfa.mfaphase1api.model.dto.response.SubmissionResponse;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionProperty;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionSort;
 import kr.com.mfa.mfaphase1api.model.enums.TimeRange;
+import kr.com.mfa.mfaphase1api.service.AutoGradingService;
+import kr.com.mfa.mfaphase1api.service.ResultExportService;
 import kr.com.mfa.mfaphase1api.service.ResultService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,6 +48,11 @@ import static kr.com.mfa.mfaphase1api.utils.ResponseUtil.buildResponse;
 public class ResultController {
 
     private final ResultService resultService;
+    private final AutoGradingService autoGradingService;
+    private final ResultExportService resultExportService;
+
+    // The body is streamed on the async dispatcher; the default timeout would cut large cohorts off
+    private static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(10);
 
     @AuditAction("GRADE_SUBMISSION_RESULT")
     @PreAuthorize("hasRole('INSTRUCTOR')")
@@ -55,6 +73,48 @@ public class ResultController {
         return buildResponse("Results grades successfully", null, HttpStatus.OK);
     }
 
+    @AuditAction("GRADE_ALL_SUBMISSION_RESULTS")
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    @PostMapping("/assessments/{assessmentId}/submissions/results/grade")
+    @Operation(
+            summary = "Grade all submission results",
+            description = "Grades every unpublished SUBMITTED or LATE submission of the assessment in one operation.",
+            tags = {"Result"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Results graded successfully")
+            }
+    )
+    public ResponseEntity<APIResponse<BulkGradeResponse>> gradeAllSubmissionResults(
+            @PathVariable @NotNull UUID assessmentId
+    ) {
+        return buildResponse(
+                "Results graded successfully",
+                resultService.gradeAllSubmissionResults(assessmentId),
+                HttpStatus.OK
+        );
+    }
+
+    @AuditAction("AUTO_GRADE_SUBMISSION_RESULTS")
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    @PostMapping("/assessments/{assessmentId}/submissions/results/auto-grade")
+    @Operation(
+            summary = "Auto-grade submission results",
+            description = "Scores every unpublished submission's choice questions that are set to AUTO grading.",
+            tags = {"Result"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Submissions auto-graded successfully")
+            }
+    )
+    public ResponseEntity<APIResponse<AutoGradingResponse>> autoGradeSubmissionResults(
+            @PathVariable @NotNull UUID assessmentId
+    ) {
+        return buildResponse(
+                "Submissions auto-graded successfully",
+                autoGradingService.autoGradeSubmissionResults(assessmentId),
+                HttpStatus.OK
+        );
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'INSTRUCTOR')")
     @GetMapping("/assessments/{assessmentId}/submissions/{submissionId}/result")
     @Operation(
@@ -105,6 +165,78 @@ public class ResultController {
         );
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'INSTRUCTOR')")
+    @GetMapping("/assessments/{assessmentId}/submissions/results/cursor")
+    @Operation(
+            summary = "Get submission results by assessment with a cursor",
+            description = "Returns published submission results of the assessment one keyset page at a time. Deep pages cost the same as the first; the total count is only computed when requested.",
+            tags = {"Result"}
+    )
+    public ResponseEntity<APIResponse<CursorPagedResponse<List<SubmissionResponse>>>> getSubmissionResultsByCursor(
+            @PathVariable UUID assessmentId,
+
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor; omit for the first page", in = ParameterIn.QUERY)
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size", example = "10", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+
+            @Parameter(description = "Sort property (SUBMISSION_ID, STATUS, MAX_SCORE, SCORE_EARNED or STARTED_AT)", example = "STARTED_AT", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "STARTED_AT") SubmissionProperty property,
+
+            @Parameter(description = "Sort direction", example = "DESC", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+
+            @Parameter(description = "Also return the total number of matching rows", example = "false", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return buildResponse(
+                "Submissions retrieved successfully",
+                resultService.getSubmissionResultsByCursor(assessmentId, cursor, size, property, direction, includeTotal),
+                HttpStatus.OK
+        );
+    }
+
+    @AuditAction("EXPORT_ASSESSMENT_RESULTS")
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    @GetMapping(value = "/assessments/{assessmentId}/submissions/results/export", produces = "text/csv")
+    @Operation(
+            summary = "Export submission results of an assessment",
+            description = "Streams every published submission result of the assessment as CSV. Rows are written as they are read, so the export size is not limited by memory.",
+            tags = {"Result"}
+    )
+    public ResponseEntity<StreamingResponseBody> exportAssessmentResults(
+            @PathVariable @NotNull UUID assessmentId,
+            HttpServletRequest request
+    ) {
+        extendExportTimeout(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"results-" + assessmentId + ".csv\"")
+                .body(resultExportService.exportAssessmentResults(assessmentId));
+    }
+
+    @AuditAction("EXPORT_CLASS_RESULTS")
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    @GetMapping(value = "/classes/{classId}/results/export", produces = "text/csv")
+    @Operation(
+            summary = "Export submission results of a class",
+            description = "Streams every published submission result of the assessments you created in the class as CSV, grouped by assessment.",
+            tags = {"Result"}
+    )
+    public ResponseEntity<StreamingResponseBody> exportClassResults(
+            @PathVariable @NotNull UUID classId,
+            HttpServletRequest request
+    ) {
+        extendExportTimeout(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"class-results-" + classId + ".csv\"")
+                .body(resultExportService.exportClassResults(classId));
+    }
+
     @AuditAction("PUBLISH_SUBMISSION_RESULT")
     @PreAuthorize("hasRole('INSTRUCTOR')")
     @PostMapping("/assessments/{assessmentId}/submissions/result/publish")
@@ -116,11 +248,14 @@ public class ResultController {
                     @ApiResponse(responseCode = "200", description = "Results published successfully")
             }
     )
-    public ResponseEntity<APIResponse<Void>> publishSubmissionResult(
+    public ResponseEntity<APIResponse<PublishResultResponse>> publishSubmissionResult(
             @PathVariable @NotNull UUID assessmentId
     ) {
-        resultService.publishSubmissionResult(assessmentId);
-        return buildResponse("Results published successfully", null, HttpStatus.OK);
+        return buildResponse(
+                "Results published successfully",
+                resultService.publishSubmissionResult(assessmentId),
+                HttpStatus.OK
+        );
     }
 
     @PreAuthorize("hasAnyRole('STUDENT')")
@@ -146,4 +281,12 @@ public class ResultController {
                 HttpStatus.OK
         );
     }
-}
\ No newline at end of file
+
+    // Applies to this request only, before the streaming body starts async processing
+    private static void extendExportTimeout(HttpServletRequest request) {
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(EXPORT_TIMEOUT.toMillis());
+        }
+    }
+}
@@ -7,15 +7,19 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import kr.com.mfa.mfaphase1api.model.annotation.AuditAction;
+import kr.com.mfa.mfaphase1api.model.dto.request.AnswerDraftRequest;
 import kr.com.mfa.mfaphase1api.model.dto.response.APIResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.CursorPagedResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PagedResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PaperResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.SubmissionResponse;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionProperty;
+import kr.com.mfa.mfaphase1api.service.AnswerDraftService;
 import kr.com.mfa.mfaphase1api.service.SubmissionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
@@ -36,6 +40,7 @@ import static kr.com.mfa.mfaphase1api.utils.ResponseUtil.buildResponse;
 public class SubmissionController {
 
     private final SubmissionService submissionService;
+    private final AnswerDraftService answerDraftService;
 
     @AuditAction("START_SUBMISSION")
     @PreAuthorize("hasRole('STUDENT')")
@@ -76,6 +81,27 @@ public class SubmissionController {
         return buildResponse("Papers uploaded successfully", null, HttpStatus.OK);
     }
 
+    // Not audited: called every few seconds per student
+    @PreAuthorize("hasRole('STUDENT')")
+    @PutMapping("/{submissionId}/drafts")
+    @Operation(
+            summary = "Autosave answer drafts",
+            description = "Buffers in-progress answers for the submission. Send only the questions that changed; "
+                    + "drafts are written to the database in batches and always before the submission is finalized.",
+            tags = {"Submission"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Drafts saved successfully")
+            }
+    )
+    public ResponseEntity<APIResponse<Void>> saveAnswerDrafts(
+            @PathVariable @NotNull UUID assessmentId,
+            @PathVariable @NotNull UUID submissionId,
+            @RequestBody @NotNull List<@Valid AnswerDraftRequest> requests
+    ) {
+        answerDraftService.saveDrafts(assessmentId, submissionId, requests);
+        return buildResponse("Drafts saved successfully", null, HttpStatus.OK);
+    }
+
     @AuditAction("FINALIZE_SUBMISSION")
     @PreAuthorize("hasRole('STUDENT')")
     @PostMapping("/{submissionId}/submit")
@@ -180,4 +206,36 @@ public class SubmissionController {
                 HttpStatus.OK
         );
     }
-}
\ No newline at end of file
+
+    @PreAuthorize("hasAnyRole('INSTRUCTOR', 'ADMIN', 'STUDENT')")
+    @GetMapping("/cursor")
+    @Operation(
+            summary = "Get submissions by assessment with a cursor",
+            description = "Returns submissions of the assessment one keyset page at a time. Deep pages cost the same as the first; the total count is only computed when requested.",
+            tags = {"Submission"}
+    )
+    public ResponseEntity<APIResponse<CursorPagedResponse<List<SubmissionResponse>>>> getSubmissionsByCursor(
+            @PathVariable UUID assessmentId,
+
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor; omit for the first page", in = ParameterIn.QUERY)
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size", example = "10", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+
+            @Parameter(description = "Sort property (SUBMISSION_ID, STATUS, MAX_SCORE, SCORE_EARNED or STARTED_AT)", example = "STARTED_AT", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "STARTED_AT") SubmissionProperty property,
+
+            @Parameter(description = "Sort direction", example = "DESC", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+
+            @Parameter(description = "Also return the total number of matching rows", example = "false", in = ParameterIn.QUERY)
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return buildResponse(
+                "Submissions retrieved successfully",
+                submissionService.getSubmissionsByCursor(assessmentId, cursor, size, property, direction, includeTotal),
+                HttpStatus.OK
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package kr.com.mfa.mfaphase1api.job;
+
+import kr.com.mfa.mfaphase1api.service.AnswerDraftService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class AnswerDraftFlushJob implements org.quartz.Job {
+
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final AnswerDraftService answerDraftService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        int flushed = 0;
+
+        // One transaction per batch keeps row locks short while students keep autosaving
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            int batch = answerDraftService.flushDirtyBatch();
+            if (batch == 0) break;
+            flushed += batch;
+        }
+
+        if (flushed > 0) {
+            log.debug("Flushed answer drafts for {} submissions", flushed);
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package kr.com.mfa.mfaphase1api.job;
 
 import kr.com.mfa.mfaphase1api.model.dto.response.AssessmentMessage;
-import kr.com.mfa.mfaphase1api.model.entity.Answer;
 import kr.com.mfa.mfaphase1api.model.entity.Assessment;
-import kr.com.mfa.mfaphase1api.model.entity.Question;
 import kr.com.mfa.mfaphase1api.model.entity.Submission;
 import kr.com.mfa.mfaphase1api.model.enums.AssessmentStatus;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
@@ -12,19 +10,23 @@ import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
 import kr.com.mfa.mfaphase1api.repository.QuestionRepository;
 import kr.com.mfa.mfaphase1api.repository.StudentClassEnrollmentRepository;
 import kr.com.mfa.mfaphase1api.repository.SubmissionRepository;
+import kr.com.mfa.mfaphase1api.service.AnswerDraftService;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import kr.com.mfa.mfaphase1api.service.AutoGradingService;
 import kr.com.mfa.mfaphase1api.service.SocketIoClientService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobExecutionContext;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -34,9 +36,12 @@ public class AssessmentFinishJob implements org.quartz.Job {
     private final AssessmentRepository assessmentRepository;
     private final SocketIoClientService socketIoClientService;
     private final SubmissionRepository submissionRepository;
-    private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
+    private final QuestionRepository questionRepository;
     private final StudentClassEnrollmentRepository enrollmentRepository;
+    private final AssessmentStatsService assessmentStatsService;
+    private final AnswerDraftService answerDraftService;
+    private final AutoGradingService autoGradingService;
 
     @Override
     @Transactional
@@ -47,6 +52,9 @@ public class AssessmentFinishJob implements org.quartz.Job {
         Assessment assessment = assessmentRepository.findByIdWithClassInfo(assessmentId)
                 .orElseThrow(() -> new IllegalStateException("Assessment not found: " + assessmentId));
 
+        // Nothing buffered may be left behind once the assessment closes
+        answerDraftService.flushAssessment(assessmentId);
+
         // Single projection query for student IDs — no lazy collection traversal
         UUID classId = assessment.getClassSubSubjectInstructor()
                 .getClassSubSubject()
@@ -66,14 +74,13 @@ public class AssessmentFinishJob implements org.quartz.Job {
         if (!missingStudentIds.isEmpty()) {
             ZonedDateTime now = ZonedDateTime.now(ZoneId.of(assessment.getTimeZone()));
             Instant nowInstant = now.toInstant();
-
-            List<Question> questions = questionRepository.findAllByAssessment_AssessmentId(assessmentId);
+            BigDecimal maxScore = questionRepository.sumPointsByAssessmentId(assessmentId);
 
             // Build and batch-save all MISSED submissions in one round-trip
             List<Submission> missedSubmissions = missingStudentIds.stream()
                     .map(studentId -> Submission.builder()
                             .status(SubmissionStatus.MISSED)
-                            .maxScore(BigDecimal.ZERO)
+                            .maxScore(maxScore)
                             .scoreEarned(BigDecimal.ZERO)
                             .assessment(assessment)
                             .studentId(studentId)
@@ -85,17 +92,13 @@ public class AssessmentFinishJob implements org.quartz.Job {
 
             List<Submission> savedSubmissions = submissionRepository.saveAll(missedSubmissions);
 
-            // Build and batch-save all answers across all submissions in one round-trip
-            List<Answer> allAnswers = savedSubmissions.stream()
-                    .flatMap(submission -> questions.stream()
-                            .map(q -> Answer.builder()
-                                    .pointsAwarded(BigDecimal.ZERO)
-                                    .question(q)
-                                    .submission(submission)
-                                    .build()))
-                    .collect(Collectors.toList());
-
-            answerRepository.saveAll(allAnswers);
+            // One INSERT ... SELECT for every submission x question pair
+            answerRepository.insertPlaceholderAnswers(
+                    savedSubmissions.stream().map(Submission::getSubmissionId).toList(),
+                    nowInstant
+            );
+            assessmentStatsService.recordMissed(assessmentId, savedSubmissions.size());
+            assessmentRepository.touchLastSubmissionActivity(assessmentId, nowInstant);
             log.info("Created {} MISSED submissions for assessment {}", savedSubmissions.size(), assessmentId);
         }
 
@@ -124,5 +127,18 @@ public class AssessmentFinishJob implements org.quartz.Job {
             socketIoClientService.emitAssessmentStatus(message);
             log.info("Assessment {} transitioned to FINISHED", assessmentId);
         }
+
+        // Grading runs in its own transactions, so it has to see the flushed drafts committed first
+        UUID gradedBy = assessment.getCreatedBy();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    autoGradingService.gradeAssessment(assessmentId, gradedBy);
+                } catch (RuntimeException e) {
+                    log.error("Auto-grading failed for assessment {}: {}", assessmentId, e.getMessage(), e);
+                }
+            }
+        });
     }
 }
@@ -4,6 +4,9 @@ import kr.com.mfa.mfaphase1api.model.dto.response.AssessmentMessage;
 import kr.com.mfa.mfaphase1api.model.entity.Assessment;
 import kr.com.mfa.mfaphase1api.model.enums.AssessmentStatus;
 import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
+import kr.com.mfa.mfaphase1api.repository.StudentClassEnrollmentRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentContentCacheService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.service.SocketIoClientService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +23,9 @@ public class AssessmentStartJob implements org.quartz.Job {
 
     private final AssessmentRepository assessmentRepository;
     private final SocketIoClientService socketIoClientService;
+    private final StudentClassEnrollmentRepository studentClassEnrollmentRepository;
+    private final MembershipService membershipService;
+    private final AssessmentContentCacheService assessmentContentCacheService;
 
     @Override
     @Transactional
@@ -34,11 +40,14 @@ public class AssessmentStartJob implements org.quartz.Job {
             assessment.setStatus(AssessmentStatus.STARTED);
             Assessment saved = assessmentRepository.save(assessment);
 
-            String classId = saved.getClassSubSubjectInstructor()
+            UUID classUuid = saved.getClassSubSubjectInstructor()
                     .getClassSubSubject()
                     .getClazz()
-                    .getClassId()
-                    .toString();
+                    .getClassId();
+            String classId = classUuid.toString();
+
+            // Warm before notifying, so the wave of student reads that follows the event hits memory
+            warmCaches(assessmentId, classUuid);
 
             AssessmentMessage message = new AssessmentMessage(
                     saved.getAssessmentId().toString(),
@@ -57,4 +66,14 @@ public class AssessmentStartJob implements org.quartz.Job {
             log.warn("AssessmentStartJob skipped: assessment {} has status {}", assessmentId, assessment.getStatus());
         }
     }
+
+    private void warmCaches(UUID assessmentId, UUID classId) {
+        try {
+            membershipService.warm(studentClassEnrollmentRepository.findStudentIdsByClassId(classId));
+            assessmentContentCacheService.warm(assessmentId);
+        } catch (RuntimeException e) {
+            // Reads fall back to loading on demand; never hold back the start over a cold cache
+            log.warn("Cache pre-warm failed for assessment {}: {}", assessmentId, e.getMessage());
+        }
+    }
 }
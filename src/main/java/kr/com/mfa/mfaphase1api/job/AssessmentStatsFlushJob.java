@@ -0,0 +1,27 @@
+package kr.com.mfa.mfaphase1api.job;
+
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class AssessmentStatsFlushJob implements org.quartz.Job {
+
+    private final AssessmentStatsService assessmentStatsService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        // One recount per assessment per run, however many students started in between
+        int flushed = assessmentStatsService.flushPendingStarted();
+
+        if (flushed > 0) {
+            log.debug("Recounted starts for {} assessments", flushed);
+        }
+    }
+}
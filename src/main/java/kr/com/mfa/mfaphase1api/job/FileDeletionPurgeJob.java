@@ -0,0 +1,35 @@
+package kr.com.mfa.mfaphase1api.job;
+
+import kr.com.mfa.mfaphase1api.service.FileDeletionOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class FileDeletionPurgeJob implements org.quartz.Job {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final FileDeletionOutboxService fileDeletionOutboxService;
+
+    @Override
+    public void execute(JobExecutionContext context) {
+        int purged = 0;
+
+        // Each batch commits on its own so a storage outage never holds rows locked for the whole run
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            int batch = fileDeletionOutboxService.purgeDueBatch();
+            if (batch == 0) break;
+            purged += batch;
+        }
+
+        if (purged > 0) {
+            log.info("Purged {} stored objects from the deletion outbox", purged);
+        }
+    }
+}
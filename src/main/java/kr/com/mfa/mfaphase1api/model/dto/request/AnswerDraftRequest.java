@@ -0,0 +1,27 @@
+package kr.com.mfa.mfaphase1api.model.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AnswerDraftRequest {
+
+    @NotNull
+    private UUID questionId;
+
+    // null leaves the saved text unchanged; send an empty string to clear it
+    private String answerText;
+
+    // Full selection for the question; null leaves the saved selection unchanged
+    private List<UUID> optionIds;
+
+}
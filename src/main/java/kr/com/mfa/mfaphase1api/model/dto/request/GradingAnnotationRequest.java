@@ -0,0 +1,28 @@
+package kr.com.mfa.mfaphase1api.model.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GradingAnnotationRequest {
+
+    // Null creates a new annotation
+    private UUID annotationId;
+
+    @NotNull
+    private UUID answerId;
+
+    private Object contentJson;
+
+    // Feedback attached to this annotation; null leaves any existing feedback unchanged
+    private String comment;
+
+}
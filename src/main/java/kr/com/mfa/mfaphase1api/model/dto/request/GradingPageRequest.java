@@ -0,0 +1,26 @@
+package kr.com.mfa.mfaphase1api.model.dto.request;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GradingPageRequest {
+
+    @Valid
+    @Builder.Default
+    private List<UpdateAnswerRequest> answers = new ArrayList<>();
+
+    @Valid
+    @Builder.Default
+    private List<GradingAnnotationRequest> annotations = new ArrayList<>();
+
+}
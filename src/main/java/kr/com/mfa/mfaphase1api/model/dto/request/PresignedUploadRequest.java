@@ -0,0 +1,22 @@
+package kr.com.mfa.mfaphase1api.model.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PresignedUploadRequest {
+
+    @NotNull
+    @NotBlank
+    private String fileName;
+
+    private String contentType;
+
+}
@@ -0,0 +1,23 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AutoGradingResponse {
+    private UUID assessmentId;
+    private Integer gradableQuestions;
+    private Integer submissionsScored;
+    private Integer submissionsGraded;
+    private Integer answersScored;
+    private Integer answersCorrect;
+    private Long elapsedMillis;
+    private Double answersPerSecond;
+}
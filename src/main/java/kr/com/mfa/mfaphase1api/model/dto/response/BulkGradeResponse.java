@@ -0,0 +1,22 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkGradeResponse {
+    private UUID assessmentId;
+    private Integer gradedCount;
+    private Integer newlyGradedCount;
+    private BigDecimal maxScore;
+    private Instant gradedAt;
+}
@@ -0,0 +1,17 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPagedResponse<T> {
+    private T items;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+}
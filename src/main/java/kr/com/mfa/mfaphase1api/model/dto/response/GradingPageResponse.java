@@ -0,0 +1,23 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GradingPageResponse {
+    private UUID submissionId;
+    private BigDecimal scoreEarned;
+    private BigDecimal maxScore;
+    private List<AnswerResponse> answers;
+    private List<AnnotationResponse> annotations;
+    private List<FeedbackResponse> feedbacks;
+}
@@ -0,0 +1,21 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MembershipIndex {
+    @Builder.Default
+    private Set<UUID> studentClassIds = new HashSet<>();
+    @Builder.Default
+    private Set<UUID> instructorClassIds = new HashSet<>();
+}
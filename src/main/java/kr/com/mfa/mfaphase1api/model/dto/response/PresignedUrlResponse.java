@@ -0,0 +1,21 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PresignedUrlResponse {
+    private String fileName;
+    private String method;
+    private String url;
+    private Map<String, String> requiredHeaders;
+    private Instant expiresAt;
+}
@@ -0,0 +1,20 @@
+package kr.com.mfa.mfaphase1api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PublishResultResponse {
+    private UUID assessmentId;
+    private Integer publishedCount;
+    private Integer missedCount;
+    private Instant publishedAt;
+}
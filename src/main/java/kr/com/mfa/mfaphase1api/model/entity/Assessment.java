@@ -20,7 +20,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "assessments")
+@Table(name = "assessments", indexes = {
+        @Index(name = "idx_assessments_last_submission_activity", columnList = "last_submission_activity_at"),
+        @Index(name = "idx_assessments_created_by_last_submission_activity", columnList = "created_by, last_submission_activity_at")
+})
 public class Assessment {
 
     @Id
@@ -68,6 +71,10 @@ public class Assessment {
 
     private UUID fileId;
 
+    // Latest submission startedAt; maintained by AssessmentRepository bulk updates, never by entity writes
+    @Column(insertable = false, updatable = false)
+    private Instant lastSubmissionActivityAt;
+
     @Column(nullable = false)
     private UUID createdBy;
 
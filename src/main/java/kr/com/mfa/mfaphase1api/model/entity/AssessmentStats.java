@@ -0,0 +1,43 @@
+package kr.com.mfa.mfaphase1api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-assessment submission counters, maintained incrementally by the submission lifecycle
+ * so listings read one row instead of issuing COUNT queries over submissions.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "assessment_stats")
+public class AssessmentStats {
+
+    @Id
+    private UUID assessmentId;
+
+    @Column(nullable = false)
+    private Long totalStarted;
+
+    @Column(nullable = false)
+    private Long totalSubmitted;
+
+    @Column(nullable = false)
+    private Long totalLate;
+
+    @Column(nullable = false)
+    private Long totalMissed;
+
+    @Column(nullable = false)
+    private Long totalGraded;
+
+    @Column(nullable = false)
+    private Long totalPublished;
+
+}
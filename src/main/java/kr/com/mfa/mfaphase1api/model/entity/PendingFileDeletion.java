@@ -0,0 +1,46 @@
+package kr.com.mfa.mfaphase1api.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbox row for an object that must be removed from storage once the owning rows are committed.
+ */
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "pending_file_deletions", indexes = {
+        @Index(name = "idx_pending_file_deletions_next_attempt_at", columnList = "next_attempt_at"),
+        @Index(name = "idx_pending_file_deletions_object_name", columnList = "object_name")
+})
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID pendingFileDeletionId;
+
+    @Column(nullable = false)
+    private String objectName;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+}
@@ -27,6 +27,9 @@ import java.util.UUID;
 @Entity
 @Table(name = "submissions", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"assessment_id", "student_id"})
+}, indexes = {
+        @Index(name = "idx_submissions_student_started_at", columnList = "student_id, started_at"),
+        @Index(name = "idx_submissions_assessment_started_at", columnList = "assessment_id, started_at, submission_id")
 })
 public class Submission {
 
@@ -3,9 +3,12 @@ package kr.com.mfa.mfaphase1api.repository;
 import kr.com.mfa.mfaphase1api.model.entity.Annotation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,4 +27,6 @@ public interface AnnotationRepository extends JpaRepository<Annotation, UUID> {
 
     Page<Annotation> findAllByAnswer_AnswerId_AndAnswer_Question_Assessment_CreatedBy(UUID answerId, UUID authorId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"feedback"})
+    List<Annotation> findAllByAnswer_Submission_SubmissionIdAndAnnotationIdIn(UUID submissionId, Collection<UUID> annotationIds);
 }
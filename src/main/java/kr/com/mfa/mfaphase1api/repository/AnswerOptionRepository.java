@@ -0,0 +1,18 @@
+package kr.com.mfa.mfaphase1api.repository;
+
+import kr.com.mfa.mfaphase1api.model.entity.AnswerOption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface AnswerOptionRepository extends JpaRepository<AnswerOption, UUID> {
+
+    @Modifying
+    @Query("DELETE FROM AnswerOption ao WHERE ao.answer.answerId IN :answerIds")
+    int deleteAllByAnswerIds(Collection<UUID> answerIds);
+}
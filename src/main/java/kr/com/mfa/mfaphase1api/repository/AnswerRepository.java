@@ -1,11 +1,18 @@
 package kr.com.mfa.mfaphase1api.repository;
 
+import jakarta.persistence.LockModeType;
 import kr.com.mfa.mfaphase1api.model.entity.Answer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +26,17 @@ public interface AnswerRepository extends JpaRepository<Answer, UUID> {
 
     Optional<Answer> findAnswersByQuestion_QuestionId_AndAnswerId_AndQuestion_Assessment_CreatedBy(UUID questionId, UUID answerId, UUID createdBy);
 
+    // Graders read the previous points under the row lock, so concurrent saves apply their score deltas in turn
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT a
+                FROM Answer a
+                WHERE a.question.questionId = :questionId
+                  AND a.answerId = :answerId
+                  AND a.question.assessment.createdBy = :createdBy
+            """)
+    Optional<Answer> findForUpdateByQuestionIdAndAnswerIdAndCreatedBy(UUID questionId, UUID answerId, UUID createdBy);
+
     Optional<Answer> findAnswersByQuestion_QuestionId_AndAnswerId_AndSubmission_StudentId(UUID questionId, UUID answerId, UUID studentId);
 
     Page<Answer> findAllByQuestion_QuestionId(UUID questionId, Pageable pageable);
@@ -35,4 +53,78 @@ public interface AnswerRepository extends JpaRepository<Answer, UUID> {
 
     List<Answer> findAllBySubmission_SubmissionId(UUID submissionId);
 
+    List<Answer> findAllBySubmission_SubmissionIdIn(Collection<UUID> submissionIds);
+
+    @EntityGraph(attributePaths = {"question", "question.questionImages"})
+    @Query("SELECT a FROM Answer a WHERE a.submission.submissionId = :submissionId AND a.answerId IN :answerIds")
+    List<Answer> findAllWithQuestionBySubmissionIdAndAnswerIdIn(UUID submissionId, Collection<UUID> answerIds);
+
+    // Locked in id order so two bulk saves over overlapping answers cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Answer a WHERE a.submission.submissionId = :submissionId AND a.answerId IN :answerIds ORDER BY a.answerId")
+    List<Answer> findAllForUpdateBySubmissionIdAndAnswerIdIn(UUID submissionId, Collection<UUID> answerIds);
+
+    // One row per selected option; answers without a selection come back once with a null optionId
+    @Query(value = """
+                SELECT a.answer_id     AS answerId,
+                       a.submission_id AS submissionId,
+                       a.question_id   AS questionId,
+                       ao.option_id    AS optionId
+                FROM answers a
+                LEFT JOIN answer_options ao ON ao.answer_id = a.answer_id
+                WHERE a.submission_id IN (:submissionIds)
+                  AND a.question_id IN (:questionIds)
+            """, nativeQuery = true)
+    List<AnswerSelection> findSelectionsBySubmissionIdsAndQuestionIds(Collection<UUID> submissionIds, Collection<UUID> questionIds);
+
+    @Modifying
+    @Query(value = """
+                UPDATE answers a
+                SET is_correct = TRUE,
+                    points_awarded = q.points,
+                    updated_at = :updatedAt
+                FROM questions q
+                WHERE q.question_id = a.question_id
+                  AND a.answer_id IN (:answerIds)
+            """, nativeQuery = true)
+    int markCorrect(Collection<UUID> answerIds, Instant updatedAt);
+
+    @Modifying
+    @Query(value = """
+                UPDATE answers
+                SET is_correct = FALSE,
+                    points_awarded = 0,
+                    updated_at = :updatedAt
+                WHERE answer_id IN (:answerIds)
+            """, nativeQuery = true)
+    int markIncorrect(Collection<UUID> answerIds, Instant updatedAt);
+
+    // Generates the zero-point rows server-side, so none of them enter the persistence context.
+    // Questions that already have an autosaved answer are skipped.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                INSERT INTO answers (answer_id, points_awarded, created_at, updated_at, question_id, submission_id)
+                SELECT gen_random_uuid(), 0, :createdAt, :createdAt, q.question_id, s.submission_id
+                FROM submissions s
+                JOIN questions q ON q.assessment_id = s.assessment_id
+                WHERE s.submission_id IN (:submissionIds)
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM answers x
+                      WHERE x.submission_id = s.submission_id
+                        AND x.question_id = q.question_id
+                  )
+            """, nativeQuery = true)
+    int insertPlaceholderAnswers(Collection<UUID> submissionIds, Instant createdAt);
+
+
+    interface AnswerSelection {
+        UUID getAnswerId();
+
+        UUID getSubmissionId();
+
+        UUID getQuestionId();
+
+        UUID getOptionId();
+    }
 }
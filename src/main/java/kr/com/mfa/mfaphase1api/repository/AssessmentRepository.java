@@ -4,14 +4,19 @@ import kr.com.mfa.mfaphase1api.model.entity.Assessment;
 import kr.com.mfa.mfaphase1api.model.entity.SubSubject;
 import kr.com.mfa.mfaphase1api.model.entity.Submission;
 import kr.com.mfa.mfaphase1api.model.enums.AssessmentStatus;
+import kr.com.mfa.mfaphase1api.model.enums.AssessmentType;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -65,17 +70,8 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
     @Query("""
                 select a
                 from Assessment a
-                where exists (
-                    select 1 from Submission s
-                    where s.assessment = a
-                      and s.startedAt is not null
-                )
-                order by (
-                    select max(s2.startedAt)
-                    from Submission s2
-                    where s2.assessment = a
-                      and s2.startedAt is not null
-                ) desc
+                where a.lastSubmissionActivityAt is not null
+                order by a.lastSubmissionActivityAt desc
             """)
     Page<Assessment> findRecentBySubmissionStartedAt(Pageable pageable);
 
@@ -83,39 +79,64 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
                 select a
                 from Assessment a
                 where a.createdBy = :instructorId
-                  and exists (
-                    select 1 from Submission s
-                    where s.assessment = a
-                      and s.startedAt is not null
-                  )
-                order by (
-                    select max(s2.startedAt)
-                    from Submission s2
-                    where s2.assessment = a
-                      and s2.startedAt is not null
-                ) desc
+                  and a.lastSubmissionActivityAt is not null
+                order by a.lastSubmissionActivityAt desc
             """)
     Page<Assessment> findRecentBySubmissionStartedAtAndInstructor(UUID instructorId, Pageable pageable);
 
-    @Query("""
+    // A student has at most one submission per assessment, so its startedAt is the per-student activity time
+    @Query(value = """
                 select a
-                from Assessment a
-                where exists (
-                    select 1 from Submission s
-                    where s.assessment = a
-                      and s.studentId = :studentId
-                      and s.startedAt is not null
-                )
-                order by (
-                    select max(s2.startedAt)
-                    from Submission s2
-                    where s2.assessment = a
-                      and s2.studentId = :studentId
-                      and s2.startedAt is not null
-                ) desc
+                from Submission s
+                join s.assessment a
+                where s.studentId = :studentId
+                order by s.startedAt desc
+            """, countQuery = """
+                select count(s)
+                from Submission s
+                where s.studentId = :studentId
             """)
     Page<Assessment> findRecentByMySubmissionStartedAt(UUID studentId, Pageable pageable);
 
+    // Coalesced to one write per 30 seconds: during a start burst the WHERE fails without taking the row lock
+    @Modifying
+    @Query(value = """
+                UPDATE assessments
+                SET last_submission_activity_at = :activityAt
+                WHERE assessment_id = :assessmentId
+                  AND (last_submission_activity_at IS NULL
+                       OR last_submission_activity_at < CAST(:activityAt AS timestamptz) - INTERVAL '30 seconds')
+            """, nativeQuery = true)
+    void touchLastSubmissionActivity(UUID assessmentId, Instant activityAt);
+
+    @Modifying
+    @Query(value = """
+                UPDATE assessments a
+                SET last_submission_activity_at = s.last_started_at
+                FROM (
+                    SELECT assessment_id, MAX(started_at) AS last_started_at
+                    FROM submissions
+                    GROUP BY assessment_id
+                ) s
+                WHERE a.assessment_id = s.assessment_id
+            """, nativeQuery = true)
+    int backfillLastSubmissionActivity();
+
+    // Only touches rows that were never filled, so it is safe to run on every startup
+    @Modifying
+    @Query(value = """
+                UPDATE assessments a
+                SET last_submission_activity_at = s.last_started_at
+                FROM (
+                    SELECT assessment_id, MAX(started_at) AS last_started_at
+                    FROM submissions
+                    GROUP BY assessment_id
+                ) s
+                WHERE a.assessment_id = s.assessment_id
+                  AND a.last_submission_activity_at IS NULL
+            """, nativeQuery = true)
+    int backfillMissingLastSubmissionActivity();
+
     @Query("""
                 select distinct a
                 from Submission s
@@ -138,6 +159,157 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
             """)
     Optional<Assessment> findByIdWithClassInfo(UUID assessmentId);
 
+    @Query("""
+                SELECT css.clazz.classId
+                FROM Assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                WHERE a.assessmentId = :assessmentId
+            """)
+    Optional<UUID> findClassIdByAssessmentId(UUID assessmentId);
+
     List<Assessment> findAllByCreatedBy(UUID instructorId);
 
+    // Scalar subqueries rather than joins: joining submissions and enrollments together
+    // would multiply rows per assessment (submissions x students) before counting.
+    @Query("""
+                SELECT a.assessmentId AS assessmentId,
+                       (SELECT COUNT(s)
+                        FROM Submission s
+                        WHERE s.assessment = a
+                          AND s.status = :status) AS totalSubmitted,
+                       (SELECT COUNT(e)
+                        FROM StudentClassEnrollment e
+                        WHERE e.clazz = css.clazz) AS totalStudents
+                FROM Assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                WHERE a.assessmentId IN :assessmentIds
+            """)
+    List<AssessmentCounts> findCountsByAssessmentIds(List<UUID> assessmentIds, SubmissionStatus status);
+
+    @Query("""
+                SELECT COUNT(a) FILTER (WHERE a.assessmentType = 'EXAM') AS exams,
+                       COUNT(a) FILTER (WHERE a.assessmentType = 'QUIZ') AS quizzes,
+                       COUNT(a) FILTER (WHERE a.assessmentType = 'ASSIGNMENT') AS assignments,
+                       COUNT(a) FILTER (WHERE a.assessmentType = 'HOMEWORK') AS homeworks
+                FROM Assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                WHERE EXISTS (
+                    SELECT 1 FROM StudentClassEnrollment e
+                    WHERE e.clazz = css.clazz
+                      AND e.studentId = :studentId
+                )
+            """)
+    AssessmentTypeCounts countTypesByStudentId(UUID studentId);
+
+    @Query("""
+                SELECT COUNT(a) FILTER (WHERE a.assessmentType = 'EXAM') AS exams,
+                       COUNT(a) FILTER (WHERE a.assessmentType = 'QUIZ') AS quizzes,
+                       COUNT(a) FILTER (WHERE a.assessmentType = 'ASSIGNMENT') AS assignments,
+                       COUNT(a) FILTER (WHERE a.assessmentType = 'HOMEWORK') AS homeworks
+                FROM Assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                WHERE a.startDate BETWEEN :startDate AND :endDate
+                  AND EXISTS (
+                    SELECT 1 FROM StudentClassEnrollment e
+                    WHERE e.clazz = css.clazz
+                      AND e.studentId = :studentId
+                )
+            """)
+    AssessmentTypeCounts countTypesByStudentIdAndStartDateBetween(UUID studentId, Instant startDate, Instant endDate);
+
+    // A student has at most one submission per assessment, so the left join never multiplies rows
+    @Query("""
+                SELECT COUNT(a) AS totalAssessments,
+                       COUNT(s) FILTER (WHERE s.status = 'SUBMITTED') AS totalCompleted,
+                       COUNT(s) FILTER (WHERE s.status = 'NOT_SUBMITTED') AS totalPending,
+                       COUNT(s) FILTER (WHERE s.status = 'MISSED') AS totalFailed,
+                       COALESCE(SUM(s.scoreEarned), 0) AS totalScoreEarned,
+                       COALESCE(SUM(s.maxScore), 0) AS totalMaxScore
+                FROM Assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                LEFT JOIN a.submissions s ON s.studentId = :studentId
+                WHERE EXISTS (
+                    SELECT 1 FROM StudentClassEnrollment e
+                    WHERE e.clazz = css.clazz
+                      AND e.studentId = :studentId
+                )
+            """)
+    StudentAssessmentTotals sumProfileTotalsByStudentId(UUID studentId);
+
+    @Query("""
+                SELECT COUNT(a) AS totalAssessments,
+                       COUNT(a) FILTER (WHERE a.status = 'STARTED') AS totalInProgress,
+                       COUNT(a) FILTER (WHERE a.status = 'FINISHED') AS totalInReview,
+                       COUNT(a) FILTER (WHERE a.status = 'SCHEDULED') AS totalScheduled
+                FROM Assessment a
+                WHERE a.createdBy = :instructorId
+            """)
+    InstructorStatusCounts countStatusesByCreatedBy(UUID instructorId);
+
+    // One row per class and assessment type; the submission join is why assessments are counted DISTINCT
+    @Query("""
+                SELECT css.clazz.classId AS classId,
+                       a.assessmentType AS assessmentType,
+                       COUNT(DISTINCT a.assessmentId) FILTER (WHERE a.startDate < :now) AS upcomingCount,
+                       COUNT(s) AS submissionCount,
+                       COUNT(s) FILTER (WHERE s.gradedAt IS NULL) AS pendingGradingCount,
+                       COALESCE(SUM(s.scoreEarned), 0) AS totalScoreEarned
+                FROM Assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                LEFT JOIN a.submissions s
+                WHERE a.createdBy = :instructorId
+                  AND a.status = :status
+                  AND a.startDate IS NOT NULL
+                  AND css.clazz.classId IN :classIds
+                  AND (:startDate IS NULL OR a.startDate >= :startDate)
+                  AND (:endDate IS NULL OR a.startDate < :endDate)
+                GROUP BY css.clazz.classId, a.assessmentType
+            """)
+    List<ClassAssessmentTypeSummary> summarizeByClassAndType(UUID instructorId, AssessmentStatus status, Collection<UUID> classIds,
+                                                             Instant startDate, Instant endDate, Instant now);
+
+    interface ClassAssessmentTypeSummary {
+        UUID getClassId();
+        AssessmentType getAssessmentType();
+        Long getUpcomingCount();
+        Long getSubmissionCount();
+        Long getPendingGradingCount();
+        BigDecimal getTotalScoreEarned();
+    }
+
+    interface InstructorStatusCounts {
+        Long getTotalAssessments();
+        Long getTotalInProgress();
+        Long getTotalInReview();
+        Long getTotalScheduled();
+    }
+
+    interface AssessmentTypeCounts {
+        Long getExams();
+        Long getQuizzes();
+        Long getAssignments();
+        Long getHomeworks();
+    }
+
+    interface StudentAssessmentTotals {
+        Long getTotalAssessments();
+        Long getTotalCompleted();
+        Long getTotalPending();
+        Long getTotalFailed();
+        BigDecimal getTotalScoreEarned();
+        BigDecimal getTotalMaxScore();
+    }
+
+    interface AssessmentCounts {
+        UUID getAssessmentId();
+        Long getTotalSubmitted();
+        Long getTotalStudents();
+    }
+
 }
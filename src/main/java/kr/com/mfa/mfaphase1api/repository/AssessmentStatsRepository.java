@@ -0,0 +1,83 @@
+package kr.com.mfa.mfaphase1api.repository;
+
+import kr.com.mfa.mfaphase1api.model.entity.AssessmentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AssessmentStatsRepository extends JpaRepository<AssessmentStats, UUID> {
+
+    List<AssessmentStats> findAllByAssessmentIdIn(Collection<UUID> assessmentIds);
+
+    // Single-statement upsert so concurrent lifecycle events never lose an increment
+    @Modifying
+    @Query(value = """
+                INSERT INTO assessment_stats (assessment_id, total_started, total_submitted, total_late,
+                                              total_missed, total_graded, total_published)
+                VALUES (:assessmentId, :started, :submitted, :late, :missed, :graded, :published)
+                ON CONFLICT (assessment_id) DO UPDATE
+                SET total_started   = assessment_stats.total_started   + EXCLUDED.total_started,
+                    total_submitted = assessment_stats.total_submitted + EXCLUDED.total_submitted,
+                    total_late      = assessment_stats.total_late      + EXCLUDED.total_late,
+                    total_missed    = assessment_stats.total_missed    + EXCLUDED.total_missed,
+                    total_graded    = assessment_stats.total_graded    + EXCLUDED.total_graded,
+                    total_published = assessment_stats.total_published + EXCLUDED.total_published
+            """, nativeQuery = true)
+    void increment(UUID assessmentId, long started, long submitted, long late, long missed, long graded, long published);
+
+    // Creates the row if needed and takes its lock, so a recount in a later statement reads after any
+    // writer that incremented the row before us has committed
+    @Modifying
+    @Query(value = """
+                INSERT INTO assessment_stats (assessment_id, total_started, total_submitted, total_late,
+                                              total_missed, total_graded, total_published)
+                VALUES (:assessmentId, 0, 0, 0, 0, 0, 0)
+                ON CONFLICT (assessment_id) DO UPDATE
+                SET total_started = assessment_stats.total_started
+            """, nativeQuery = true)
+    void lockForRecount(UUID assessmentId);
+
+    @Modifying
+    @Query(value = """
+                UPDATE assessment_stats
+                SET total_started = (
+                    SELECT COUNT(*)
+                    FROM submissions s
+                    WHERE s.assessment_id = :assessmentId
+                      AND s.started_at IS NOT NULL
+                )
+                WHERE assessment_id = :assessmentId
+            """, nativeQuery = true)
+    void recountStarted(UUID assessmentId);
+
+    // Blocks every increment until the rebuilding transaction commits; plain reads still go through
+    @Modifying
+    @Query(value = "LOCK TABLE assessment_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM assessment_stats", nativeQuery = true)
+    void deleteAllStats();
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO assessment_stats (assessment_id, total_started, total_submitted, total_late,
+                                              total_missed, total_graded, total_published)
+                SELECT s.assessment_id,
+                       COUNT(*) FILTER (WHERE s.started_at IS NOT NULL),
+                       COUNT(*) FILTER (WHERE s.status = 'SUBMITTED'),
+                       COUNT(*) FILTER (WHERE s.status = 'LATE'),
+                       COUNT(*) FILTER (WHERE s.status = 'MISSED'),
+                       COUNT(*) FILTER (WHERE s.graded_at IS NOT NULL),
+                       COUNT(*) FILTER (WHERE s.published_at IS NOT NULL)
+                FROM submissions s
+                GROUP BY s.assessment_id
+            """, nativeQuery = true)
+    int rebuildFromSubmissions();
+}
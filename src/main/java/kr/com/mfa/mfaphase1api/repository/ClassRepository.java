@@ -39,4 +39,34 @@ public interface ClassRepository extends JpaRepository<Class, UUID> {
                 GROUP BY e.clazz.classId
             """)
     List<Object[]> countStudentsByClassIds(@Param("classIds") List<UUID> classIds);
+
+    // One row per class the instructor teaches; student and assessment counts are correlated per group
+    @Query("""
+                SELECT c.classId AS classId,
+                       c.name AS className,
+                       MIN(ss.name) AS subjectName,
+                       (SELECT COUNT(e) FROM StudentClassEnrollment e WHERE e.clazz = c) AS totalStudents,
+                       (SELECT COUNT(a)
+                        FROM Assessment a
+                        JOIN a.classSubSubjectInstructor acsi
+                        JOIN acsi.classSubSubject acss
+                        WHERE acss.clazz = c
+                          AND a.createdBy = :instructorId) AS totalAssessments
+                FROM ClassSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                JOIN css.clazz c
+                JOIN css.subSubject ss
+                WHERE csi.instructorId = :instructorId
+                GROUP BY c.classId, c.name
+                ORDER BY c.name
+            """)
+    List<InstructorClassStats> findInstructorClassStats(UUID instructorId);
+
+    interface InstructorClassStats {
+        UUID getClassId();
+        String getClassName();
+        String getSubjectName();
+        Long getTotalStudents();
+        Long getTotalAssessments();
+    }
 }
@@ -6,8 +6,11 @@ import kr.com.mfa.mfaphase1api.model.entity.ClassSubSubjectInstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,4 +32,23 @@ public interface ClassSubSubjectInstructorRepository extends JpaRepository<Class
     boolean existsByClassSubSubject_ClassSubSubjectIdAndEndDateIsNull(UUID classSubSubjectId);
 
     boolean existsByClassSubSubject_ClassSubSubjectIdAndInstructorIdAndEndDateIsNull(UUID classSubSubjectId, UUID instructorId);
+
+    @Query("SELECT DISTINCT csi.classSubSubject.clazz.classId FROM ClassSubSubjectInstructor csi WHERE csi.instructorId = :instructorId")
+    List<UUID> findClassIdsByInstructorId(UUID instructorId);
+
+    @Query("SELECT DISTINCT csi.instructorId FROM ClassSubSubjectInstructor csi WHERE csi.classSubSubject.clazz.classId = :classId")
+    List<UUID> findInstructorIdsByClassId(UUID classId);
+
+    @Query("""
+                SELECT DISTINCT csi.instructorId AS instructorId, csi.classSubSubject.clazz.classId AS classId
+                FROM ClassSubSubjectInstructor csi
+                WHERE csi.instructorId IN :instructorIds
+            """)
+    List<InstructorClassId> findClassIdsByInstructorIds(Collection<UUID> instructorIds);
+
+    interface InstructorClassId {
+        UUID getInstructorId();
+
+        UUID getClassId();
+    }
 }
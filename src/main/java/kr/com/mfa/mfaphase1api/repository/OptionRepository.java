@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +18,6 @@ public interface OptionRepository extends JpaRepository<Option, UUID> {
     Page<Option> findAllByQuestion_QuestionId(UUID questionId, Pageable pageable);
 
     Optional<Option> findAllByQuestion_QuestionId_AndOptionId(UUID questionQuestionId, UUID optionId);
+
+    List<Option> findAllByQuestion_Assessment_AssessmentIdOrderByOptionOrder(UUID assessmentId);
 }
@@ -5,6 +5,7 @@ import kr.com.mfa.mfaphase1api.model.entity.Submission;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +19,6 @@ public interface PaperRepository extends JpaRepository<Paper, UUID> {
     void deleteAllBySubmission(Submission submission);
 
     Optional<Paper> findBySubmission_SubmissionIdAndPaperId(UUID submissionId, UUID paperId);
+
+    List<Paper> findAllBySubmission_SubmissionIdAndPaperIdIn(UUID submissionId, Collection<UUID> paperIds);
 }
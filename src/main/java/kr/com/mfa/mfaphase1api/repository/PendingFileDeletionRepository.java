@@ -0,0 +1,31 @@
+package kr.com.mfa.mfaphase1api.repository;
+
+import kr.com.mfa.mfaphase1api.model.entity.PendingFileDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, UUID> {
+
+    // SKIP LOCKED lets several purger runs share the backlog without processing a row twice
+    @Query(value = """
+                SELECT *
+                FROM pending_file_deletions
+                WHERE next_attempt_at <= :now
+                  AND attempts < :maxAttempts
+                ORDER BY next_attempt_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PendingFileDeletion> claimDue(Instant now, int maxAttempts, int batchSize);
+
+    @Modifying
+    @Query("DELETE FROM PendingFileDeletion p WHERE p.objectName = :objectName")
+    int deleteAllByObjectName(String objectName);
+}
@@ -2,11 +2,16 @@ package kr.com.mfa.mfaphase1api.repository;
 
 import kr.com.mfa.mfaphase1api.model.entity.Assessment;
 import kr.com.mfa.mfaphase1api.model.entity.Question;
+import kr.com.mfa.mfaphase1api.model.enums.GradingMode;
+import kr.com.mfa.mfaphase1api.model.enums.QuestionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +20,9 @@ import java.util.UUID;
 public interface QuestionRepository extends JpaRepository<Question, UUID> {
     int countByAssessment(Assessment assessment);
 
+    @Query("SELECT COALESCE(SUM(q.points), 0) FROM Question q WHERE q.assessment.assessmentId = :assessmentId")
+    BigDecimal sumPointsByAssessmentId(UUID assessmentId);
+
     Optional<Question> findByAssessment_AssessmentId_AndQuestionId(UUID assessmentId, UUID questionId);
 
     Page<Question> findAllByAssessment_AssessmentId(UUID assessmentId, Pageable pageable);
@@ -24,4 +32,44 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
     Optional<Question> findByQuestionId_AndAssessment_CreatedBy(UUID questionId, UUID instructorId);
 
     Optional<Question> findByQuestionId_AndAssessment_ClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(UUID questionId, UUID studentId);
+
+    @Query("""
+                SELECT q FROM Question q
+                JOIN FETCH q.assessment a
+                JOIN FETCH a.classSubSubjectInstructor csi
+                JOIN FETCH csi.classSubSubject css
+                JOIN FETCH css.clazz
+                WHERE q.questionId = :questionId
+            """)
+    Optional<Question> findByIdWithClassInfo(UUID questionId);
+
+    @EntityGraph(attributePaths = {"questionImages"})
+    @Query("SELECT q FROM Question q WHERE q.assessment.assessmentId = :assessmentId ORDER BY q.questionOrder")
+    List<Question> findAllWithImagesByAssessmentId(UUID assessmentId);
+
+    // One row per correct option, or a single row with a null option when a question has none
+    @Query("""
+                SELECT q.questionId AS questionId,
+                       q.points AS points,
+                       q.mode AS mode,
+                       q.questionType AS questionType,
+                       o.optionId AS optionId
+                FROM Question q
+                LEFT JOIN q.options o ON o.isCorrect = true
+                WHERE q.assessment.assessmentId = :assessmentId
+            """)
+    List<AnswerKeyRow> findAnswerKeyRowsByAssessmentId(UUID assessmentId);
+
+
+    interface AnswerKeyRow {
+        UUID getQuestionId();
+
+        BigDecimal getPoints();
+
+        GradingMode getMode();
+
+        QuestionType getQuestionType();
+
+        UUID getOptionId();
+    }
 }
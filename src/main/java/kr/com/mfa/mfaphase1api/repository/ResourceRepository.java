@@ -11,4 +11,6 @@ import java.util.UUID;
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, UUID> {
     List<Resource> findAllByAssessment(Assessment assessment);
+
+    List<Resource> findAllByAssessment_AssessmentId(UUID assessmentId);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,4 +29,20 @@ public interface StudentClassEnrollmentRepository extends JpaRepository<StudentC
 
     @Query("SELECT e.studentId FROM StudentClassEnrollment e WHERE e.clazz.classId = :classId")
     List<UUID> findStudentIdsByClassId(UUID classId);
+
+    @Query("SELECT e.clazz.classId FROM StudentClassEnrollment e WHERE e.studentId = :studentId")
+    List<UUID> findClassIdsByStudentId(UUID studentId);
+
+    @Query("""
+                SELECT e.studentId AS studentId, e.clazz.classId AS classId
+                FROM StudentClassEnrollment e
+                WHERE e.studentId IN :studentIds
+            """)
+    List<StudentClassId> findClassIdsByStudentIds(Collection<UUID> studentIds);
+
+    interface StudentClassId {
+        UUID getStudentId();
+
+        UUID getClassId();
+    }
 }
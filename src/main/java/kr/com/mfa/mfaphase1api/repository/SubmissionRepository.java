@@ -1,30 +1,83 @@
 package kr.com.mfa.mfaphase1api.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import kr.com.mfa.mfaphase1api.model.entity.Assessment;
 import kr.com.mfa.mfaphase1api.model.entity.Submission;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
 
     Optional<Submission> findSubmissionByAssessmentAndStudentId(Assessment assessment, UUID studentId);
 
+    // Relies on the (assessment_id, student_id) unique constraint; returns empty when the row already exists.
+    // max_score starts at the current question total and is kept in sync by the question writers.
+    @Query(value = """
+                INSERT INTO submissions (submission_id, status, max_score, score_earned, started_at,
+                                         time_zone, student_id, assessment_id)
+                VALUES (:submissionId, 'NOT_SUBMITTED',
+                        (SELECT COALESCE(SUM(q.points), 0) FROM questions q WHERE q.assessment_id = :assessmentId),
+                        0, :startedAt, :timeZone, :studentId, :assessmentId)
+                ON CONFLICT (assessment_id, student_id) DO NOTHING
+                RETURNING submission_id
+            """, nativeQuery = true)
+    Optional<UUID> insertStartedIfAbsent(UUID submissionId, UUID assessmentId, UUID studentId,
+                                         Instant startedAt, String timeZone);
+
+    Optional<Submission> findBySubmissionId_AndAssessment_CreatedBy(UUID submissionId, UUID createdBy);
+
+    @Query("SELECT s.scoreEarned FROM Submission s WHERE s.submissionId = :submissionId")
+    BigDecimal findScoreEarnedBySubmissionId(UUID submissionId);
+
     Page<Submission> findAllByAssessment_AssessmentIdAndAssessment_CreatedBy(UUID assessmentId, UUID createdBy, Pageable pageable);
 
     Page<Submission> findAllByAssessment_AssessmentIdAndStudentId(UUID assessmentId, UUID studentId, Pageable pageable);
 
+    // Keyset windows: always scoped to one assessment and never issue a COUNT
+    Window<Submission> findAllByAssessment_AssessmentId(UUID assessmentId, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Submission> findAllByAssessment_AssessmentIdAndStudentId(UUID assessmentId, UUID studentId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"assessment"})
+    Page<Submission> findAllByAssessment_AssessmentIdAndAssessment_CreatedByAndPublishedAtIsNotNull(UUID assessmentId, UUID createdBy, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"assessment"})
+    Page<Submission> findAllByAssessment_AssessmentIdAndStudentIdAndPublishedAtIsNotNull(UUID assessmentId, UUID studentId, Pageable pageable);
+
+    Window<Submission> findAllByAssessment_AssessmentIdAndPublishedAtIsNotNull(UUID assessmentId, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Submission> findAllByAssessment_AssessmentIdAndStudentIdAndPublishedAtIsNotNull(UUID assessmentId, UUID studentId, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByAssessment_AssessmentId(UUID assessmentId);
+
+    long countByAssessment_AssessmentIdAndStudentId(UUID assessmentId, UUID studentId);
+
+    long countByAssessment_AssessmentIdAndPublishedAtIsNotNull(UUID assessmentId);
+
+    long countByAssessment_AssessmentIdAndStudentIdAndPublishedAtIsNotNull(UUID assessmentId, UUID studentId);
+
     Integer countByAssessmentAndStatus(Assessment assessment, SubmissionStatus status);
 
     Optional<Submission> findBySubmissionId_AndAssessment_AssessmentId(UUID submissionId, UUID assessmentId);
@@ -35,15 +88,40 @@ public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
 
     List<Submission> findAllByAssessment_AssessmentId(UUID assessmentId);
 
-    List<Submission> findAllByStudentIdAndSubmittedAtIsNotNull(UUID studentId);
+    @Query("SELECT s.timeZone FROM Submission s WHERE s.studentId = :studentId AND s.submittedAt IS NOT NULL")
+    List<String> findSubmittedTimeZones(UUID studentId, Sort sort, Limit limit);
 
-    @EntityGraph(attributePaths = {"answers"})
-    List<Submission> findAllByStudentIdAndSubmittedAtIsNotNullAndPublishedAtIsNotNullAndSubmittedAtBetween(
-            UUID studentId,
-            Instant start,
-            Instant end,
-            Pageable pageable
-    );
+    // Picks the submission first, so the answer and feedback counts only run for that one row.
+    // An answer with feedback counts as incorrect, one without as correct.
+    @Query(value = """
+                SELECT s.score_earned AS scoreEarned,
+                       s.max_score    AS maxScore,
+                       (SELECT COUNT(*)
+                        FROM answers a
+                        WHERE a.submission_id = s.submission_id
+                          AND NOT EXISTS (SELECT 1 FROM feedbacks f WHERE f.answer_id = a.answer_id)) AS totalCorrect,
+                       (SELECT COUNT(*)
+                        FROM answers a
+                        WHERE a.submission_id = s.submission_id
+                          AND EXISTS (SELECT 1 FROM feedbacks f WHERE f.answer_id = a.answer_id)) AS totalIncorrect,
+                       (SELECT COUNT(*)
+                        FROM feedbacks f
+                        JOIN answers a ON a.answer_id = f.answer_id
+                        WHERE a.submission_id = s.submission_id) AS totalFeedbacks
+                FROM (
+                    SELECT submission_id, score_earned, max_score
+                    FROM submissions
+                    WHERE student_id = :studentId
+                      AND submitted_at IS NOT NULL
+                      AND published_at IS NOT NULL
+                      AND submitted_at BETWEEN :start AND :end
+                    ORDER BY CASE WHEN :sort = 'OLDEST_WORK' THEN submitted_at END ASC,
+                             CASE WHEN :sort = 'LATEST_WORK' THEN submitted_at END DESC,
+                             CASE WHEN :sort = 'HIGHEST_SCORE' THEN score_earned END DESC
+                    LIMIT 1
+                ) s
+            """, nativeQuery = true)
+    Optional<StudentResultSummary> findStudentResultSummary(UUID studentId, Instant start, Instant end, String sort);
 
     Integer countByAssessmentAndStartedAtIsNotNull(Assessment assessment);
 
@@ -106,18 +184,274 @@ public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
     @Query("SELECT s.studentId FROM Submission s WHERE s.assessment.assessmentId = :assessmentId")
     List<UUID> findStudentIdsByAssessmentId(UUID assessmentId);
 
+    @Query("SELECT s.submissionId FROM Submission s WHERE s.assessment.assessmentId = :assessmentId")
+    List<UUID> findSubmissionIdsByAssessmentId(UUID assessmentId);
+
     @Query("""
-                SELECT s.assessment.assessmentId AS assessmentId,
-                       s.scoreEarned             AS scoreEarned,
-                       s.gradedAt                AS gradedAt
+                SELECT s.submissionId
                 FROM Submission s
-                WHERE s.assessment.assessmentId IN :assessmentIds
+                WHERE s.assessment.assessmentId = :assessmentId
+                  AND s.status IN :statuses
+                  AND s.publishedAt IS NULL
+            """)
+    List<UUID> findUnpublishedSubmissionIds(UUID assessmentId, Collection<SubmissionStatus> statuses);
+
+    // Totals are recomputed from the answers, so manually graded questions are kept as they are.
+    // The ids were read before grading started; a result published since then stays frozen.
+    @Modifying
+    @Query(value = """
+                UPDATE submissions s
+                SET max_score = :maxScore,
+                    score_earned = LEAST(:maxScore, COALESCE((
+                        SELECT SUM(a.points_awarded)
+                        FROM answers a
+                        WHERE a.submission_id = s.submission_id
+                    ), 0))
+                WHERE s.submission_id IN (:submissionIds)
+                  AND s.published_at IS NULL
+            """, nativeQuery = true)
+    int refreshScoreTotals(Collection<UUID> submissionIds, BigDecimal maxScore);
+
+    @Modifying
+    @Query("""
+                UPDATE Submission s
+                SET s.gradedAt = :gradedAt, s.gradedBy = :gradedBy
+                WHERE s.submissionId IN :submissionIds
+                  AND s.gradedAt IS NULL
+                  AND s.publishedAt IS NULL
+            """)
+    int markGraded(Collection<UUID> submissionIds, UUID gradedBy, Instant gradedAt);
+
+    // Score totals are maintained as deltas; callers compute them under the answer's row lock.
+    // Published results are frozen, so a delta never reaches a published submission.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Submission s
+                SET s.scoreEarned = s.scoreEarned + :delta
+                WHERE s.submissionId = :submissionId
+                  AND s.publishedAt IS NULL
             """)
-    List<SubmissionSummary> findSummariesByAssessmentIds(List<UUID> assessmentIds);
+    int addScoreEarned(UUID submissionId, BigDecimal delta);
 
-    interface SubmissionSummary {
+    // Published results are frozen, so question edits only move the totals of unpublished submissions
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Submission s
+                SET s.maxScore = s.maxScore + :delta
+                WHERE s.assessment.assessmentId = :assessmentId
+                  AND s.publishedAt IS NULL
+            """)
+    int addMaxScore(UUID assessmentId, BigDecimal delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                UPDATE submissions s
+                SET max_score = s.max_score - :points,
+                    score_earned = s.score_earned - COALESCE((
+                        SELECT SUM(a.points_awarded)
+                        FROM answers a
+                        WHERE a.submission_id = s.submission_id
+                          AND a.question_id = :questionId
+                    ), 0)
+                WHERE s.assessment_id = :assessmentId
+                  AND s.published_at IS NULL
+            """, nativeQuery = true)
+    int removeQuestionPoints(UUID assessmentId, UUID questionId, BigDecimal points);
+
+    // Lowering a question's points clamps answers above the new cap and takes the excess off the totals.
+    // FOR UPDATE returns the latest committed points, so a grade saved meanwhile is not double counted.
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                WITH locked AS (
+                    SELECT a.answer_id,
+                           a.submission_id,
+                           a.points_awarded - :points AS excess
+                    FROM answers a
+                    JOIN submissions s ON s.submission_id = a.submission_id
+                    WHERE a.question_id = :questionId
+                      AND a.points_awarded > :points
+                      AND s.published_at IS NULL
+                    FOR UPDATE OF a
+                ),
+                clamped AS (
+                    UPDATE answers a
+                    SET points_awarded = :points
+                    FROM locked l
+                    WHERE a.answer_id = l.answer_id
+                )
+                UPDATE submissions s
+                SET score_earned = s.score_earned - x.excess
+                FROM (
+                    SELECT submission_id, SUM(excess) AS excess
+                    FROM locked
+                    GROUP BY submission_id
+                ) x
+                WHERE s.submission_id = x.submission_id
+            """, nativeQuery = true)
+    int clampQuestionPoints(UUID questionId, BigDecimal points);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.gradedAt = :gradedAt, s.gradedBy = :gradedBy WHERE s.submissionId = :submissionId")
+    int updateGradedAt(UUID submissionId, UUID gradedBy, Instant gradedAt);
+
+    @Modifying
+    @Query(value = """
+                UPDATE submissions s
+                SET max_score = t.max_score,
+                    score_earned = LEAST(t.max_score, COALESCE((
+                        SELECT SUM(a.points_awarded)
+                        FROM answers a
+                        WHERE a.submission_id = s.submission_id
+                    ), 0))
+                FROM (
+                    SELECT a.assessment_id, COALESCE(SUM(q.points), 0) AS max_score
+                    FROM assessments a
+                    LEFT JOIN questions q ON q.assessment_id = a.assessment_id
+                    GROUP BY a.assessment_id
+                ) t
+                WHERE s.assessment_id = t.assessment_id
+                  AND s.published_at IS NULL
+            """, nativeQuery = true)
+    int backfillScoreTotals();
+
+    @Query(value = """
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM submissions
+                    WHERE assessment_id = :assessmentId
+                      AND published_at IS NULL
+                      AND (graded_at IS NOT NULL OR status = 'MISSED')
+                )
+            """, nativeQuery = true)
+    boolean existsPublishable(UUID assessmentId);
+
+    @Modifying
+    @Query(value = """
+                UPDATE submissions
+                SET max_score = :maxScore
+                WHERE assessment_id = :assessmentId
+                  AND published_at IS NULL
+                  AND graded_at IS NULL
+                  AND status = 'MISSED'
+            """, nativeQuery = true)
+    int updateUnpublishedMissedMaxScore(UUID assessmentId, BigDecimal maxScore);
+
+    @Modifying
+    @Query(value = """
+                UPDATE submissions
+                SET published_at = :publishedAt
+                WHERE assessment_id = :assessmentId
+                  AND published_at IS NULL
+            """, nativeQuery = true)
+    int publishAll(UUID assessmentId, Instant publishedAt);
+
+    // One statement for the whole assessment. Eligibility matches ResultServiceImpl.gradeSubmissionResult
+    // (an already graded LATE submission is left alone), and the totals are not touched: answer and question
+    // writers keep score_earned and max_score current, so grading only stamps the grade
+    @Query(value = """
+                WITH eligible AS (
+                    SELECT s.submission_id,
+                           s.graded_at IS NULL AS newly_graded
+                    FROM submissions s
+                    WHERE s.assessment_id = :assessmentId
+                      AND s.status IN ('SUBMITTED', 'LATE')
+                      AND s.published_at IS NULL
+                      AND NOT (s.status = 'LATE' AND s.graded_at IS NOT NULL)
+                    FOR UPDATE
+                ),
+                graded AS (
+                    UPDATE submissions s
+                    SET graded_at = :gradedAt,
+                        graded_by = :gradedBy
+                    FROM eligible e
+                    WHERE s.submission_id = e.submission_id
+                    RETURNING e.newly_graded
+                )
+                SELECT COUNT(*)                             AS gradedCount,
+                       COUNT(*) FILTER (WHERE newly_graded) AS newlyGradedCount
+                FROM graded
+            """, nativeQuery = true)
+    BulkGradeResult gradeAllSubmitted(UUID assessmentId, UUID gradedBy, Instant gradedAt);
+
+    // Forward-only cursor for exports: scalar rows never enter the persistence context, and the fetch size
+    // keeps the driver from buffering the whole result (PostgreSQL only honours it inside a transaction)
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT s.submissionId  AS submissionId,
+                       s.studentId     AS studentId,
+                       a.assessmentId  AS assessmentId,
+                       a.title         AS assessmentTitle,
+                       s.status        AS status,
+                       s.scoreEarned   AS scoreEarned,
+                       s.maxScore      AS maxScore,
+                       s.submittedAt   AS submittedAt,
+                       s.gradedAt      AS gradedAt,
+                       s.publishedAt   AS publishedAt
+                FROM Submission s
+                JOIN s.assessment a
+                WHERE a.assessmentId = :assessmentId
+                  AND s.publishedAt IS NOT NULL
+                ORDER BY s.submissionId
+            """)
+    Stream<ResultExportRow> streamPublishedResultsByAssessmentId(UUID assessmentId);
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT s.submissionId  AS submissionId,
+                       s.studentId     AS studentId,
+                       a.assessmentId  AS assessmentId,
+                       a.title         AS assessmentTitle,
+                       s.status        AS status,
+                       s.scoreEarned   AS scoreEarned,
+                       s.maxScore      AS maxScore,
+                       s.submittedAt   AS submittedAt,
+                       s.gradedAt      AS gradedAt,
+                       s.publishedAt   AS publishedAt
+                FROM Submission s
+                JOIN s.assessment a
+                JOIN a.classSubSubjectInstructor csi
+                JOIN csi.classSubSubject css
+                WHERE css.clazz.classId = :classId
+                  AND a.createdBy = :instructorId
+                  AND s.publishedAt IS NOT NULL
+                ORDER BY a.assessmentId, s.submissionId
+            """)
+    Stream<ResultExportRow> streamPublishedResultsByClassId(UUID classId, UUID instructorId);
+
+    // Serializes draft flushes with each other and with finalize for the same submission
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Submission s WHERE s.submissionId IN :submissionIds")
+    List<Submission> findAllForUpdate(Collection<UUID> submissionIds);
+
+    interface ResultExportRow {
+        UUID getSubmissionId();
+        UUID getStudentId();
         UUID getAssessmentId();
+        String getAssessmentTitle();
+        SubmissionStatus getStatus();
         BigDecimal getScoreEarned();
+        BigDecimal getMaxScore();
+        Instant getSubmittedAt();
         Instant getGradedAt();
+        Instant getPublishedAt();
+    }
+
+    interface BulkGradeResult {
+        Long getGradedCount();
+        Long getNewlyGradedCount();
+    }
+
+    interface StudentResultSummary {
+        BigDecimal getScoreEarned();
+        BigDecimal getMaxScore();
+        Long getTotalCorrect();
+        Long getTotalIncorrect();
+        Long getTotalFeedbacks();
     }
 }
@@ -0,0 +1,19 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import kr.com.mfa.mfaphase1api.model.dto.request.AnswerDraftRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AnswerDraftService {
+
+    void saveDrafts(UUID assessmentId, UUID submissionId, List<AnswerDraftRequest> requests);
+
+    int flushDirtyBatch();
+
+    void flush(UUID submissionId);
+
+    void flushAssessment(UUID assessmentId);
+
+    void close(UUID submissionId);
+}
@@ -0,0 +1,21 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import kr.com.mfa.mfaphase1api.model.dto.response.OptionResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.QuestionResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.ResourceResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AssessmentContentCacheService {
+
+    List<QuestionResponse> getQuestions(UUID assessmentId);
+
+    List<OptionResponse> getOptions(UUID assessmentId, UUID questionId);
+
+    List<ResourceResponse> getResources(UUID assessmentId);
+
+    void warm(UUID assessmentId);
+
+    void evict(UUID assessmentId);
+}
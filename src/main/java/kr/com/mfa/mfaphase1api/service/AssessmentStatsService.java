@@ -0,0 +1,31 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import kr.com.mfa.mfaphase1api.model.entity.AssessmentStats;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface AssessmentStatsService {
+
+    void recordStarted(UUID assessmentId);
+
+    void recordStatusChange(UUID assessmentId, SubmissionStatus from, SubmissionStatus to);
+
+    void recordMissed(UUID assessmentId, int count);
+
+    void recordGraded(UUID assessmentId);
+
+    void recordGraded(UUID assessmentId, int count);
+
+    void recordPublished(UUID assessmentId, int count);
+
+    void recordDeleted(UUID assessmentId, SubmissionStatus status, boolean graded, boolean published);
+
+    Map<UUID, AssessmentStats> getStatsByAssessmentIds(Collection<UUID> assessmentIds);
+
+    int flushPendingStarted();
+
+    int rebuildAll();
+}
@@ -0,0 +1,12 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import kr.com.mfa.mfaphase1api.model.dto.response.AutoGradingResponse;
+
+import java.util.UUID;
+
+public interface AutoGradingService {
+
+    AutoGradingResponse autoGradeSubmissionResults(UUID assessmentId);
+
+    AutoGradingResponse gradeAssessment(UUID assessmentId, UUID gradedBy);
+}
@@ -0,0 +1,15 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface FileDeletionOutboxService {
+
+    void enqueue(Collection<String> fileNames);
+
+    void scheduleDeletion(String fileName, Instant dueAt);
+
+    void cancel(String fileName);
+
+    int purgeDueBatch();
+}
@@ -1,9 +1,13 @@
 package kr.com.mfa.mfaphase1api.service;
 
+import kr.com.mfa.mfaphase1api.model.dto.response.PresignedUrlResponse;
 import kr.com.mfa.mfaphase1api.model.entity.FileMetadata;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface FileService {
 
@@ -14,4 +18,14 @@ public interface FileService {
     List<FileMetadata> multipleUploadFile(List<MultipartFile> files);
 
     void deleteFileByFileName(String fileName);
+
+    Map<String, String> deleteFilesByFileNames(List<String> fileNames);
+
+    Set<String> findMissingFiles(Collection<String> fileNames);
+
+    PresignedUrlResponse createUploadUrl(String originalName, String contentType);
+
+    FileMetadata completeUpload(String fileName);
+
+    PresignedUrlResponse createDownloadUrl(String fileName);
 }
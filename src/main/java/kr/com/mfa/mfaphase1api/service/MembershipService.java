@@ -0,0 +1,17 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface MembershipService {
+
+    boolean isStudentOf(UUID userId, UUID classId);
+
+    boolean isInstructorOf(UUID userId, UUID classId);
+
+    void warm(Collection<UUID> userIds);
+
+    void evict(UUID userId);
+
+    void evictAll(Collection<UUID> userIds);
+}
@@ -0,0 +1,12 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+public interface ResultExportService {
+
+    StreamingResponseBody exportAssessmentResults(UUID assessmentId);
+
+    StreamingResponseBody exportClassResults(UUID classId);
+}
@@ -1,7 +1,10 @@
 package kr.com.mfa.mfaphase1api.service;
 
 
+import kr.com.mfa.mfaphase1api.model.dto.response.BulkGradeResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.CursorPagedResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PagedResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.PublishResultResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.StudentResponseResultSummary;
 import kr.com.mfa.mfaphase1api.model.dto.response.SubmissionResponse;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionProperty;
@@ -15,11 +18,15 @@ import java.util.UUID;
 public interface ResultService {
     void gradeSubmissionResult(UUID assessmentId, UUID submissionId);
 
+    BulkGradeResponse gradeAllSubmissionResults(UUID assessmentId);
+
     SubmissionResponse getSubmissionResult(UUID assessmentId, UUID submissionId);
 
     PagedResponse<List<SubmissionResponse>> getAllSubmissionResults(UUID assessmentId, Integer page, Integer size, SubmissionProperty property, Sort.Direction direction);
 
-    void publishSubmissionResult(UUID assessmentId);
+    CursorPagedResponse<List<SubmissionResponse>> getSubmissionResultsByCursor(UUID assessmentId, String cursor, Integer size, SubmissionProperty property, Sort.Direction direction, boolean includeTotal);
+
+    PublishResultResponse publishSubmissionResult(UUID assessmentId);
 
     StudentResponseResultSummary getMySubmissionResultSummary(TimeRange range, SubmissionSort sort);
 }
@@ -1,5 +1,6 @@
 package kr.com.mfa.mfaphase1api.service;
 
+import kr.com.mfa.mfaphase1api.model.dto.response.CursorPagedResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PagedResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PaperResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.SubmissionResponse;
@@ -24,4 +25,6 @@ public interface SubmissionService {
     void saveSubmission(UUID assessmentId, UUID submissionId);
 
     PagedResponse<List<SubmissionResponse>> getAllSubmissions(UUID assessmentId, Integer page, Integer size, SubmissionProperty property, Sort.Direction direction);
+
+    CursorPagedResponse<List<SubmissionResponse>> getSubmissionsByCursor(UUID assessmentId, String cursor, Integer size, SubmissionProperty property, Sort.Direction direction, boolean includeTotal);
 }
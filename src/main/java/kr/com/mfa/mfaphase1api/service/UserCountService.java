@@ -0,0 +1,8 @@
+package kr.com.mfa.mfaphase1api.service;
+
+import kr.com.mfa.mfaphase1api.model.enums.BaseRole;
+
+public interface UserCountService {
+
+    long countByRole(BaseRole role);
+}
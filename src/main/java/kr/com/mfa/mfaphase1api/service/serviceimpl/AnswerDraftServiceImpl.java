@@ -0,0 +1,360 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.com.mfa.mfaphase1api.exception.ConflictException;
+import kr.com.mfa.mfaphase1api.exception.InternalException;
+import kr.com.mfa.mfaphase1api.exception.NotFoundException;
+import kr.com.mfa.mfaphase1api.model.dto.request.AnswerDraftRequest;
+import kr.com.mfa.mfaphase1api.model.entity.*;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
+import kr.com.mfa.mfaphase1api.repository.*;
+import kr.com.mfa.mfaphase1api.service.AnswerDraftService;
+import kr.com.mfa.mfaphase1api.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for in-progress answers. Deltas are coalesced per submission in a Redis hash
+ * (one field per question and property, last write wins) and flushed to Postgres in periodic batches, so
+ * frequent autosaves cost a Redis write each instead of a database transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerDraftServiceImpl implements AnswerDraftService {
+
+    private static final String DRAFT_KEY_PREFIX = "answer-drafts:";
+    private static final String DIRTY_KEY = "answer-drafts:dirty";
+    private static final String CLOSED_KEY_PREFIX = "answer-drafts:closed:";
+    private static final String TEXT_FIELD_SUFFIX = ":text";
+    private static final String OPTIONS_FIELD_SUFFIX = ":options";
+    private static final Duration DRAFT_TTL = Duration.ofDays(1);
+    private static final int FLUSH_BATCH_SIZE = 200;
+
+    // Writes the deltas and marks the submission dirty in one step, unless the submission was finalized
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // Drops only the fields that were flushed and not overwritten since, then clears the dirty mark if nothing is left
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV, 2 do
+                if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            if redis.call('HLEN', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SubmissionRepository submissionRepository;
+    private final QuestionRepository questionRepository;
+    private final OptionRepository optionRepository;
+    private final AnswerRepository answerRepository;
+    private final AnswerOptionRepository answerOptionRepository;
+    private final ObjectMapper objectMapper;
+
+    // Ownership never changes, so it is verified once per submission instead of on every autosave.
+    // Only open submissions are cached; finalizing is enforced on every save by the closed marker.
+    private final Cache<UUID, UUID> submissionOwners = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @Override
+    public void saveDrafts(UUID assessmentId, UUID submissionId, List<AnswerDraftRequest> requests) {
+        UUID currentUserId = UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
+
+        UUID ownerId = submissionOwners.getIfPresent(submissionId);
+        if (ownerId == null) {
+            Submission submission = submissionRepository
+                    .findBySubmissionId_AndAssessment_AssessmentId(submissionId, assessmentId)
+                    .filter(s -> s.getStudentId().equals(currentUserId))
+                    .orElseThrow(() -> new NotFoundException("Submission " + submissionId + " not found"));
+
+            if (submission.getStatus() != SubmissionStatus.NOT_SUBMITTED) {
+                throw new ConflictException("Submission has already been submitted for this assessment");
+            }
+
+            ownerId = submission.getStudentId();
+            submissionOwners.put(submissionId, ownerId);
+        }
+
+        if (!ownerId.equals(currentUserId)) {
+            throw new NotFoundException("Submission " + submissionId + " not found");
+        }
+
+        if (requests.isEmpty()) return;
+
+        long savedAt = System.currentTimeMillis();
+        List<String> args = new ArrayList<>();
+        args.add(submissionId.toString());
+        args.add(String.valueOf(DRAFT_TTL.toSeconds()));
+
+        // Each property has its own field, so a text-only delta cannot drop a buffered selection and vice versa
+        for (AnswerDraftRequest request : requests) {
+            String questionId = request.getQuestionId().toString();
+            if (request.getAnswerText() != null) {
+                args.add(questionId + TEXT_FIELD_SUFFIX);
+                args.add(writeDraft(new AnswerDraft(request.getAnswerText(), null, savedAt)));
+            }
+            if (request.getOptionIds() != null) {
+                args.add(questionId + OPTIONS_FIELD_SUFFIX);
+                args.add(writeDraft(new AnswerDraft(null, request.getOptionIds(), savedAt)));
+            }
+        }
+        if (args.size() == 2) return;
+
+        Long saved = redisTemplate.execute(SAVE_SCRIPT,
+                List.of(draftKey(submissionId), DIRTY_KEY, closedKey(submissionId)), args.toArray());
+
+        if (saved == null || saved == 0) {
+            submissionOwners.invalidate(submissionId);
+            throw new ConflictException("Submission has already been submitted for this assessment");
+        }
+    }
+
+    @Override
+    public void close(UUID submissionId) {
+        Runnable close = () -> {
+            submissionOwners.invalidate(submissionId);
+            redisTemplate.opsForValue().set(closedKey(submissionId), "1", DRAFT_TTL);
+        };
+
+        // Marked once the status change is committed, so a rolled-back finalize leaves the submission open
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    close.run();
+                }
+            });
+        } else {
+            close.run();
+        }
+    }
+
+    @Override
+    public int flushDirtyBatch() {
+        Set<String> members = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, FLUSH_BATCH_SIZE);
+        if (members == null || members.isEmpty()) return 0;
+
+        List<UUID> submissionIds = members.stream().map(UUID::fromString).toList();
+        flushAll(submissionIds);
+        return submissionIds.size();
+    }
+
+    @Override
+    public void flush(UUID submissionId) {
+        flushAll(List.of(submissionId));
+    }
+
+    @Override
+    public void flushAssessment(UUID assessmentId) {
+        Set<String> dirty = Optional.ofNullable(redisTemplate.opsForSet().members(DIRTY_KEY)).orElse(Set.of());
+        if (dirty.isEmpty()) return;
+
+        List<UUID> submissionIds = submissionRepository.findSubmissionIdsByAssessmentId(assessmentId).stream()
+                .filter(id -> dirty.contains(id.toString()))
+                .toList();
+
+        for (int from = 0; from < submissionIds.size(); from += FLUSH_BATCH_SIZE) {
+            flushAll(submissionIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, submissionIds.size())));
+        }
+    }
+
+    private void flushAll(List<UUID> submissionIds) {
+        Map<UUID, Map<String, String>> buffered = new LinkedHashMap<>();
+        for (UUID submissionId : submissionIds) {
+            Map<String, String> fields = redisTemplate.<String, String>opsForHash().entries(draftKey(submissionId));
+            buffered.put(submissionId, fields);
+        }
+
+        // Joins the caller's transaction when there is one (finalize), so drafts commit with the status change
+        transactionTemplate.executeWithoutResult(status -> writeDrafts(buffered));
+
+        Runnable acknowledge = () -> buffered.forEach(this::acknowledge);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acknowledge.run();
+                }
+            });
+        } else {
+            acknowledge.run();
+        }
+    }
+
+    private void writeDrafts(Map<UUID, Map<String, String>> buffered) {
+        Map<UUID, Map<UUID, AnswerDraft>> drafts = new LinkedHashMap<>();
+        buffered.forEach((submissionId, fields) -> {
+            Map<UUID, AnswerDraft> byQuestion = new LinkedHashMap<>();
+            fields.forEach((field, value) -> readDraft(value).ifPresent(draft -> {
+                // Fields written before the per-property split are whole drafts keyed by the bare question id
+                int separator = field.indexOf(':');
+                UUID questionId = UUID.fromString(separator < 0 ? field : field.substring(0, separator));
+                byQuestion.merge(questionId, draft, AnswerDraft::merge);
+            }));
+            if (!byQuestion.isEmpty()) drafts.put(submissionId, byQuestion);
+        });
+        if (drafts.isEmpty()) return;
+
+        // Drafts for submissions that were finalized meanwhile are dropped
+        List<Submission> submissions = submissionRepository.findAllForUpdate(drafts.keySet()).stream()
+                .filter(submission -> submission.getStatus() == SubmissionStatus.NOT_SUBMITTED)
+                .toList();
+        if (submissions.isEmpty()) return;
+
+        Set<UUID> questionIds = new HashSet<>();
+        Set<UUID> optionIds = new HashSet<>();
+        for (Submission submission : submissions) {
+            drafts.get(submission.getSubmissionId()).forEach((questionId, draft) -> {
+                questionIds.add(questionId);
+                if (draft.optionIds() != null) optionIds.addAll(draft.optionIds());
+            });
+        }
+
+        Map<UUID, Question> questions = questionRepository.findAllById(questionIds).stream()
+                .collect(Collectors.toMap(Question::getQuestionId, question -> question));
+        Map<UUID, Option> options = optionRepository.findAllById(optionIds).stream()
+                .collect(Collectors.toMap(Option::getOptionId, option -> option));
+
+        Map<UUID, Map<UUID, Answer>> existing = new HashMap<>();
+        for (Answer answer : answerRepository.findAllBySubmission_SubmissionIdIn(
+                submissions.stream().map(Submission::getSubmissionId).toList())) {
+            existing.computeIfAbsent(answer.getSubmission().getSubmissionId(), id -> new HashMap<>())
+                    .putIfAbsent(answer.getQuestion().getQuestionId(), answer);
+        }
+
+        List<Answer> answers = new ArrayList<>();
+        Map<Answer, List<Option>> selections = new LinkedHashMap<>();
+
+        for (Submission submission : submissions) {
+            UUID assessmentId = submission.getAssessment().getAssessmentId();
+            Map<UUID, Answer> submissionAnswers = existing.getOrDefault(submission.getSubmissionId(), Map.of());
+
+            drafts.get(submission.getSubmissionId()).forEach((questionId, draft) -> {
+                Question question = questions.get(questionId);
+                if (question == null || !question.getAssessment().getAssessmentId().equals(assessmentId)) {
+                    return;
+                }
+
+                Answer answer = submissionAnswers.get(questionId);
+                if (answer == null) {
+                    answer = Answer.builder()
+                            .pointsAwarded(BigDecimal.ZERO)
+                            .timeZone(submission.getTimeZone())
+                            .question(question)
+                            .submission(submission)
+                            .build();
+                }
+                if (draft.answerText() != null) {
+                    answer.setAnswerText(draft.answerText());
+                }
+                answers.add(answer);
+
+                if (draft.optionIds() != null) {
+                    selections.put(answer, draft.optionIds().stream()
+                            .map(options::get)
+                            .filter(option -> option != null && option.getQuestion().getQuestionId().equals(questionId))
+                            .toList());
+                }
+            });
+        }
+
+        answerRepository.saveAll(answers);
+
+        if (!selections.isEmpty()) {
+            answerOptionRepository.deleteAllByAnswerIds(selections.keySet().stream().map(Answer::getAnswerId).toList());
+
+            List<AnswerOption> answerOptions = new ArrayList<>();
+            selections.forEach((answer, selected) -> selected.forEach(option -> answerOptions.add(
+                    AnswerOption.builder().answer(answer).option(option).build()
+            )));
+            answerOptionRepository.saveAll(answerOptions);
+        }
+
+        log.debug("Flushed {} draft answers across {} submissions", answers.size(), submissions.size());
+    }
+
+    private void acknowledge(UUID submissionId, Map<String, String> flushed) {
+        List<String> args = new ArrayList<>();
+        args.add(submissionId.toString());
+        flushed.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        try {
+            redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(draftKey(submissionId), DIRTY_KEY), args.toArray());
+        } catch (RuntimeException e) {
+            // Left dirty; the next flush rewrites the same values
+            log.warn("Failed to acknowledge flushed drafts for submission {}: {}", submissionId, e.getMessage());
+        }
+    }
+
+    private String draftKey(UUID submissionId) {
+        return DRAFT_KEY_PREFIX + submissionId;
+    }
+
+    private String closedKey(UUID submissionId) {
+        return CLOSED_KEY_PREFIX + submissionId;
+    }
+
+    private String writeDraft(AnswerDraft draft) {
+        try {
+            return objectMapper.writeValueAsString(draft);
+        } catch (JsonProcessingException e) {
+            throw new InternalException("Failed to serialize answer draft");
+        }
+    }
+
+    private Optional<AnswerDraft> readDraft(String value) {
+        try {
+            return Optional.of(objectMapper.readValue(value, AnswerDraft.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable answer draft: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // A null property was not sent and leaves the saved value unchanged
+    private record AnswerDraft(String answerText, List<UUID> optionIds, long savedAt) {
+
+        AnswerDraft merge(AnswerDraft other) {
+            return new AnswerDraft(
+                    other.answerText != null ? other.answerText : answerText,
+                    other.optionIds != null ? other.optionIds : optionIds,
+                    Math.max(savedAt, other.savedAt)
+            );
+        }
+    }
+}
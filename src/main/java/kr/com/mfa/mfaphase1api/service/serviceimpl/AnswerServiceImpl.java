@@ -1,11 +1,15 @@
 package kr.com.mfa.mfaphase1api.service.serviceimpl;
 
 import kr.com.mfa.mfaphase1api.exception.BadRequestException;
+import kr.com.mfa.mfaphase1api.exception.ConflictException;
 import kr.com.mfa.mfaphase1api.exception.ForbiddenException;
 import kr.com.mfa.mfaphase1api.exception.NotFoundException;
 import kr.com.mfa.mfaphase1api.model.dto.request.AnswerRequest;
+import kr.com.mfa.mfaphase1api.model.dto.request.GradingAnnotationRequest;
+import kr.com.mfa.mfaphase1api.model.dto.request.GradingPageRequest;
 import kr.com.mfa.mfaphase1api.model.dto.request.UpdateAnswerRequest;
 import kr.com.mfa.mfaphase1api.model.dto.response.AnswerResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.GradingPageResponse;
 import kr.com.mfa.mfaphase1api.model.dto.response.PagedResponse;
 import kr.com.mfa.mfaphase1api.model.entity.*;
 import kr.com.mfa.mfaphase1api.model.enums.AnswerProperty;
@@ -34,6 +38,7 @@ public class AnswerServiceImpl implements AnswerService {
     private final QuestionRepository questionRepository;
     private final PaperRepository paperRepository;
     private final SubmissionRepository submissionRepository;
+    private final AnnotationRepository annotationRepository;
 
     @Transactional
     @Override
@@ -52,6 +57,8 @@ public class AnswerServiceImpl implements AnswerService {
                 () -> new NotFoundException("Submission not " + submissionId + " found")
         );
 
+        ensureNotPublished(submission);
+
         Paper paper = paperRepository.findBySubmission_SubmissionIdAndPaperId(submission.getSubmissionId(), paperId).orElseThrow(
                 () -> new NotFoundException("Paper not " + paperId + " found")
         );
@@ -63,7 +70,10 @@ public class AnswerServiceImpl implements AnswerService {
                 .submission(submission)
                 .build();
 
-        return answerRepository.saveAndFlush(newAnswer).toResponse();
+        Answer saved = answerRepository.saveAndFlush(newAnswer);
+        submissionRepository.addScoreEarned(submission.getSubmissionId(), nz(saved.getPointsAwarded()));
+
+        return saved.toResponse();
     }
 
     @Transactional(readOnly = true)
@@ -116,7 +126,7 @@ public class AnswerServiceImpl implements AnswerService {
                 () -> new NotFoundException("Paper not " + paperId + " found")
         );
 
-        Answer answer = answerRepository.findAnswersByQuestion_QuestionId_AndAnswerId_AndQuestion_Assessment_CreatedBy(questionId, answerId, currentUserId).orElseThrow(
+        Answer answer = answerRepository.findForUpdateByQuestionIdAndAnswerIdAndCreatedBy(questionId, answerId, currentUserId).orElseThrow(
                 () -> new NotFoundException("Answer with ID " + answerId + " not found")
         );
 
@@ -124,11 +134,24 @@ public class AnswerServiceImpl implements AnswerService {
             throw new BadRequestException("Points cannot be greater than the maximum points");
         }
 
+        ensureNotPublished(submission);
+        ensureNotPublished(answer.getSubmission());
+
+        UUID previousSubmissionId = answer.getSubmission().getSubmissionId();
+        BigDecimal previousPoints = nz(answer.getPointsAwarded());
+
         answer.setPointsAwarded(request.getPointsAwarded());
         answer.setPaper(paper);
         answer.setSubmission(submission);
         answer.setQuestion(question);
 
+        if (previousSubmissionId.equals(submission.getSubmissionId())) {
+            submissionRepository.addScoreEarned(submissionId, nz(request.getPointsAwarded()).subtract(previousPoints));
+        } else {
+            submissionRepository.addScoreEarned(previousSubmissionId, previousPoints.negate());
+            submissionRepository.addScoreEarned(submissionId, nz(request.getPointsAwarded()));
+        }
+
         return answer.toResponse();
     }
 
@@ -142,10 +165,13 @@ public class AnswerServiceImpl implements AnswerService {
                 () -> new NotFoundException("Question not " + questionId + " found")
         );
 
-        answerRepository.findAnswersByQuestion_QuestionId_AndAnswerId_AndQuestion_Assessment_CreatedBy(questionId, answerId, currentUserId).orElseThrow(
+        Answer answer = answerRepository.findForUpdateByQuestionIdAndAnswerIdAndCreatedBy(questionId, answerId, currentUserId).orElseThrow(
                 () -> new NotFoundException("Answer with ID " + answerId + " not found")
         );
 
+        ensureNotPublished(answer.getSubmission());
+
+        submissionRepository.addScoreEarned(answer.getSubmission().getSubmissionId(), nz(answer.getPointsAwarded()).negate());
         answerRepository.deleteById(answerId);
 
     }
@@ -229,51 +255,137 @@ public class AnswerServiceImpl implements AnswerService {
     @Override
     public List<AnswerResponse> bulkUpdateAnswer(UUID submissionId, List<UpdateAnswerRequest> requests) {
 
-        Submission submission = submissionRepository.findById(submissionId)
-                .orElseThrow(() -> new NotFoundException("Submission with ID " + submissionId + " not found"));
+        Submission submission = submissionRepository.findById(submissionId).orElseThrow(
+                () -> new NotFoundException("Submission with ID " + submissionId + " not found")
+        );
+
+        ensureNotPublished(submission);
 
         if (requests == null || requests.isEmpty()) {
             return List.of();
         }
 
-        Map<UUID, UpdateAnswerRequest> reqMap = new HashMap<>();
+        Map<UUID, UpdateAnswerRequest> reqMap = indexAnswerUpdates(requests);
+        Map<UUID, Answer> answersById = loadSubmissionAnswers(submissionId, reqMap.keySet());
+
+        BigDecimal scoreDelta = applyAnswerUpdates(submissionId, answersById, reqMap);
+
+        // Managed entities are written by dirty checking, grouped into JDBC batches of hibernate.jdbc.batch_size
+        answerRepository.flush();
+        submissionRepository.addScoreEarned(submissionId, scoreDelta);
+
+        return answersById.values().stream()
+                .map(Answer::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public GradingPageResponse saveGradingPage(UUID submissionId, GradingPageRequest request) {
+
+        UUID currentUserId = extractCurrentUserId();
+
+        // The one ownership check for the whole page; every row below is then scoped to this submission
+        Submission submission = submissionRepository.findBySubmissionId_AndAssessment_CreatedBy(submissionId, currentUserId).orElseThrow(
+                () -> new NotFoundException("Submission with ID " + submissionId + " not found")
+        );
+
+        ensureNotPublished(submission);
+
+        List<UpdateAnswerRequest> answerRequests = request.getAnswers() != null ? request.getAnswers() : List.of();
+        List<GradingAnnotationRequest> annotationRequests = request.getAnnotations() != null ? request.getAnnotations() : List.of();
+
+        Map<UUID, UpdateAnswerRequest> reqMap = indexAnswerUpdates(answerRequests);
+
+        Set<UUID> answerIds = new HashSet<>(reqMap.keySet());
+        annotationRequests.forEach(r -> answerIds.add(r.getAnswerId()));
+
+        Map<UUID, Answer> answersById = loadSubmissionAnswers(submissionId, answerIds);
+
+        BigDecimal scoreDelta = applyAnswerUpdates(submissionId, answersById, reqMap);
+
+        List<Annotation> annotations = applyAnnotationUpdates(submissionId, answersById, annotationRequests, currentUserId);
+
+        annotationRepository.saveAll(annotations.stream().filter(a -> a.getAnnotationId() == null).toList());
+
+        // One flush for the page: answer and annotation updates plus the new rows go out as JDBC batches
+        answerRepository.flush();
+        submissionRepository.addScoreEarned(submissionId, scoreDelta);
+
+        return GradingPageResponse.builder()
+                .submissionId(submissionId)
+                .scoreEarned(submissionRepository.findScoreEarnedBySubmissionId(submissionId))
+                .maxScore(submission.getMaxScore())
+                .answers(reqMap.keySet().stream()
+                        .map(answersById::get)
+                        .map(Answer::toResponse)
+                        .toList())
+                .annotations(annotations.stream()
+                        .map(Annotation::toResponse)
+                        .toList())
+                .feedbacks(annotations.stream()
+                        .map(Annotation::getFeedback)
+                        .filter(Objects::nonNull)
+                        .map(Feedback::toResponse)
+                        .toList())
+                .build();
+    }
+
+    private Map<UUID, UpdateAnswerRequest> indexAnswerUpdates(List<UpdateAnswerRequest> requests) {
+        Map<UUID, UpdateAnswerRequest> reqMap = new LinkedHashMap<>();
         for (UpdateAnswerRequest r : requests) {
             if (reqMap.put(r.getAnswerId(), r) != null) {
                 throw new BadRequestException("Duplicate update request for answerId: " + r.getAnswerId());
             }
         }
+        return reqMap;
+    }
+
+    private Map<UUID, Answer> loadSubmissionAnswers(UUID submissionId, Set<UUID> answerIds) {
+        if (answerIds.isEmpty()) {
+            return Map.of();
+        }
 
-        List<Answer> answers = answerRepository.findAllBySubmission_SubmissionId(submissionId);
+        // Locked first so the points the deltas start from cannot change underneath; the second query then
+        // returns the same managed answers with their questions (and images, for the response) attached
+        answerRepository.findAllForUpdateBySubmissionIdAndAnswerIdIn(submissionId, answerIds);
 
-        Set<UUID> existingAnswerIds = answers.stream()
-                .map(Answer::getAnswerId)
-                .collect(Collectors.toSet());
+        Map<UUID, Answer> answersById = answerRepository.findAllWithQuestionBySubmissionIdAndAnswerIdIn(submissionId, answerIds)
+                .stream()
+                .collect(Collectors.toMap(Answer::getAnswerId, answer -> answer));
 
-        for (UUID answerId : reqMap.keySet()) {
-            if (!existingAnswerIds.contains(answerId)) {
+        for (UUID answerId : answerIds) {
+            if (!answersById.containsKey(answerId)) {
                 throw new NotFoundException("Answer with ID " + answerId + " not found in this submission");
             }
         }
 
-        Set<UUID> paperIds = requests.stream()
+        return answersById;
+    }
+
+    private BigDecimal applyAnswerUpdates(UUID submissionId, Map<UUID, Answer> answersById, Map<UUID, UpdateAnswerRequest> reqMap) {
+        if (reqMap.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        Set<UUID> paperIds = reqMap.values().stream()
                 .map(UpdateAnswerRequest::getPaperId)
                 .collect(Collectors.toSet());
 
-        Map<UUID, Paper> paperMap = new HashMap<>();
+        Map<UUID, Paper> paperMap = paperRepository.findAllBySubmission_SubmissionIdAndPaperIdIn(submissionId, paperIds)
+                .stream()
+                .collect(Collectors.toMap(Paper::getPaperId, paper -> paper));
+
         for (UUID paperId : paperIds) {
-            Paper paper = paperRepository
-                    .findBySubmission_SubmissionIdAndPaperId(submissionId, paperId)
-                    .orElseThrow(() -> new NotFoundException(
-                            "Paper with ID " + paperId + " not found for this submission"
-                    ));
-            paperMap.put(paperId, paper);
+            if (!paperMap.containsKey(paperId)) {
+                throw new NotFoundException("Paper with ID " + paperId + " not found for this submission");
+            }
         }
 
-        List<Answer> updated = new ArrayList<>();
+        BigDecimal scoreDelta = BigDecimal.ZERO;
 
-        for (Answer answer : answers) {
-            UpdateAnswerRequest r = reqMap.get(answer.getAnswerId());
-            if (r == null) continue;
+        for (UpdateAnswerRequest r : reqMap.values()) {
+            Answer answer = answersById.get(r.getAnswerId());
 
             BigDecimal maxPoints = answer.getQuestion().getPoints();
             BigDecimal awarded = r.getPointsAwarded();
@@ -285,22 +397,86 @@ public class AnswerServiceImpl implements AnswerService {
                 );
             }
 
-            Paper paper = paperMap.get(r.getPaperId());
-
+            scoreDelta = scoreDelta.add(awarded.subtract(nz(answer.getPointsAwarded())));
             answer.setPointsAwarded(awarded);
-            answer.setPaper(paper);
-            answer.setSubmission(submission);
+            answer.setPaper(paperMap.get(r.getPaperId()));
+        }
+
+        return scoreDelta;
+    }
+
+    private List<Annotation> applyAnnotationUpdates(UUID submissionId, Map<UUID, Answer> answersById,
+                                                    List<GradingAnnotationRequest> requests, UUID authorId) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
 
-            updated.add(answer);
+        Set<UUID> annotationIds = new HashSet<>();
+        for (GradingAnnotationRequest r : requests) {
+            if (r.getAnnotationId() != null && !annotationIds.add(r.getAnnotationId())) {
+                throw new BadRequestException("Duplicate update request for annotationId: " + r.getAnnotationId());
+            }
         }
 
-        List<Answer> saved = answerRepository.saveAll(updated);
+        // Feedback is fetched with its annotation, otherwise the inverse one-to-one is loaded row by row
+        Map<UUID, Annotation> existing = annotationIds.isEmpty()
+                ? Map.of()
+                : annotationRepository.findAllByAnswer_Submission_SubmissionIdAndAnnotationIdIn(submissionId, annotationIds)
+                .stream()
+                .collect(Collectors.toMap(Annotation::getAnnotationId, annotation -> annotation));
+
+        List<Annotation> annotations = new ArrayList<>(requests.size());
+
+        for (GradingAnnotationRequest r : requests) {
+            Answer answer = answersById.get(r.getAnswerId());
+
+            Annotation annotation;
+            if (r.getAnnotationId() == null) {
+                annotation = Annotation.builder()
+                        .contentJson(r.getContentJson())
+                        .answer(answer)
+                        .build();
+            } else {
+                annotation = existing.get(r.getAnnotationId());
+                if (annotation == null) {
+                    throw new NotFoundException("Annotation with ID " + r.getAnnotationId() + " not found in this submission");
+                }
+                annotation.setContentJson(r.getContentJson());
+                annotation.setAnswer(answer);
+            }
 
-        return saved.stream()
-                .map(Answer::toResponse)
-                .toList();
+            if (r.getComment() != null) {
+                Feedback feedback = annotation.getFeedback();
+                if (feedback == null) {
+                    // Persisted through the annotation's cascade
+                    annotation.setFeedback(Feedback.builder()
+                            .comment(r.getComment())
+                            .answer(answer)
+                            .annotation(annotation)
+                            .authorId(authorId)
+                            .build());
+                } else {
+                    feedback.setComment(r.getComment());
+                    feedback.setAnswer(answer);
+                }
+            }
+
+            annotations.add(annotation);
+        }
+
+        return annotations;
     }
 
+    // Published results are frozen; grading edits go through unpublishing first
+    private void ensureNotPublished(Submission submission) {
+        if (submission.getPublishedAt() != null) {
+            throw new ConflictException("Submission result has already been published.");
+        }
+    }
+
+    private BigDecimal nz(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
 
     private UUID extractCurrentUserId() {
         return UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
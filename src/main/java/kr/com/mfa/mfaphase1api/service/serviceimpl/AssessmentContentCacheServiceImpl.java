@@ -0,0 +1,172 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import kr.com.mfa.mfaphase1api.model.dto.response.OptionResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.QuestionResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.ResourceResponse;
+import kr.com.mfa.mfaphase1api.model.entity.Option;
+import kr.com.mfa.mfaphase1api.model.entity.Question;
+import kr.com.mfa.mfaphase1api.model.entity.Resource;
+import kr.com.mfa.mfaphase1api.repository.OptionRepository;
+import kr.com.mfa.mfaphase1api.repository.QuestionRepository;
+import kr.com.mfa.mfaphase1api.repository.ResourceRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentContentCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-process snapshot of an assessment's question/option tree and resource metadata, so the burst of
+ * student reads right after an assessment starts does not hit the database. Writers must call
+ * {@link #evict(UUID)} when questions, options or resources change.
+ * <p>
+ * Each instance keeps its own snapshot, so evictions and pre-warms are broadcast over Redis pub/sub and
+ * every instance drops or loads its copy. Pub/sub does not redeliver, so the TTL stays short enough that
+ * a missed message only serves stale content briefly.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentContentCacheServiceImpl implements AssessmentContentCacheService {
+
+    private static final String EVICTION_KIND = "assessment-content";
+    private static final String WARM_KIND = "assessment-content-warm";
+
+    private final QuestionRepository questionRepository;
+    private final OptionRepository optionRepository;
+    private final ResourceRepository resourceRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PlatformTransactionManager transactionManager;
+
+    // Bounds staleness if an eviction message is lost; edits evict explicitly
+    private final Cache<UUID, AssessmentContent> contentCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(Duration.ofMinutes(2))
+            .build();
+
+    @PostConstruct
+    void subscribeToEvictions() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                contentCache.invalidateAll(CacheEvictionMessages.parse(EVICTION_KIND, message)),
+                CacheEvictionMessages.TOPIC);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            for (UUID assessmentId : CacheEvictionMessages.parse(WARM_KIND, message)) {
+                try {
+                    // The instance that sent the message already holds the snapshot
+                    readOnly.executeWithoutResult(status -> contentCache.get(assessmentId, this::load));
+                } catch (RuntimeException e) {
+                    log.warn("Remote cache pre-warm failed for assessment {}: {}", assessmentId, e.getMessage());
+                }
+            }
+        }, CacheEvictionMessages.TOPIC);
+    }
+
+    @Override
+    public List<QuestionResponse> getQuestions(UUID assessmentId) {
+        return getContent(assessmentId).questions();
+    }
+
+    @Override
+    public List<OptionResponse> getOptions(UUID assessmentId, UUID questionId) {
+        return getContent(assessmentId).optionsByQuestion().getOrDefault(questionId, List.of());
+    }
+
+    @Override
+    public List<ResourceResponse> getResources(UUID assessmentId) {
+        return getContent(assessmentId).resources();
+    }
+
+    @Override
+    // Own transaction so a failed warm-up cannot mark the caller's transaction rollback-only
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void warm(UUID assessmentId) {
+        contentCache.put(assessmentId, load(assessmentId));
+
+        // The start job fires on one node only; ask every other instance to load its own copy too
+        try {
+            redisTemplate.convertAndSend(CacheEvictionMessages.TOPIC.getTopic(),
+                    CacheEvictionMessages.format(WARM_KIND, List.of(assessmentId)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast content pre-warm for assessment {}: {}", assessmentId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(UUID assessmentId) {
+        // Evict after commit, otherwise a concurrent read could re-cache the pre-change content
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(assessmentId);
+                }
+            });
+        } else {
+            evictEverywhere(assessmentId);
+        }
+    }
+
+    private void evictEverywhere(UUID assessmentId) {
+        // Local copy first, so this instance is correct even when Redis is unavailable
+        contentCache.invalidate(assessmentId);
+        try {
+            redisTemplate.convertAndSend(CacheEvictionMessages.TOPIC.getTopic(),
+                    CacheEvictionMessages.format(EVICTION_KIND, List.of(assessmentId)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast content eviction for assessment {}; other instances expire it by TTL", assessmentId, e);
+        }
+    }
+
+    private AssessmentContent getContent(UUID assessmentId) {
+        return contentCache.get(assessmentId, this::load);
+    }
+
+    private AssessmentContent load(UUID assessmentId) {
+        List<QuestionResponse> questions = questionRepository.findAllWithImagesByAssessmentId(assessmentId)
+                .stream()
+                .map(Question::toResponse)
+                .toList();
+
+        Map<UUID, List<OptionResponse>> optionsByQuestion = optionRepository
+                .findAllByQuestion_Assessment_AssessmentIdOrderByOptionOrder(assessmentId)
+                .stream()
+                .map(Option::toResponse)
+                .collect(Collectors.groupingBy(OptionResponse::getQuestionId, Collectors.toUnmodifiableList()));
+
+        List<ResourceResponse> resources = resourceRepository.findAllByAssessment_AssessmentId(assessmentId)
+                .stream()
+                .map(Resource::toResponse)
+                .toList();
+
+        log.debug("Loaded content for assessment {}: {} questions, {} resources", assessmentId, questions.size(), resources.size());
+
+        return new AssessmentContent(questions, optionsByQuestion, resources);
+    }
+
+    private record AssessmentContent(
+            List<QuestionResponse> questions,
+            Map<UUID, List<OptionResponse>> optionsByQuestion,
+            List<ResourceResponse> resources
+    ) {
+    }
+}
@@ -15,8 +15,12 @@ import kr.com.mfa.mfaphase1api.model.enums.AssessmentStatus;
 import kr.com.mfa.mfaphase1api.model.enums.ResourceKind;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
 import kr.com.mfa.mfaphase1api.repository.*;
+import kr.com.mfa.mfaphase1api.service.AssessmentContentCacheService;
 import kr.com.mfa.mfaphase1api.service.AssessmentService;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import kr.com.mfa.mfaphase1api.service.FileDeletionOutboxService;
 import kr.com.mfa.mfaphase1api.service.FileService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.service.QuartzSchedulerService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -49,6 +53,11 @@ public class AssessmentServiceImpl implements AssessmentService {
     private final FileService fileService;
     private final QuartzSchedulerService quartzSchedulerService;
     private final SubmissionRepository submissionRepository;
+    private final AssessmentStatsRepository assessmentStatsRepository;
+    private final AssessmentStatsService assessmentStatsService;
+    private final FileDeletionOutboxService fileDeletionOutboxService;
+    private final MembershipService membershipService;
+    private final AssessmentContentCacheService assessmentContentCacheService;
 
     @Override
     @Transactional
@@ -79,10 +88,8 @@ public class AssessmentServiceImpl implements AssessmentService {
 
         boolean authorized = switch (currentUserRole.getFirst()) {
             case "ROLE_ADMIN" -> classRepository.existsById(classId);
-            case "ROLE_INSTRUCTOR" -> classRepository
-                    .existsByClassIdAndClassSubSubjects_ClassSubSubjectInstructors_InstructorId(classId, currentUserId);
-            case "ROLE_STUDENT" -> classRepository
-                    .existsByClassIdAndStudentClassEnrollments_StudentId(classId, currentUserId);
+            case "ROLE_INSTRUCTOR" -> membershipService.isInstructorOf(currentUserId, classId);
+            case "ROLE_STUDENT" -> membershipService.isStudentOf(currentUserId, classId);
             default -> false;
         };
 
@@ -98,21 +105,22 @@ public class AssessmentServiceImpl implements AssessmentService {
                     .findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId(classId, pageable);
             case "ROLE_INSTRUCTOR" -> assessmentRepository
                     .findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId_AndCreatedBy(classId, currentUserId, pageable);
+            // Enrollment was already verified above, so the plain class filter is sufficient
             case "ROLE_STUDENT" -> assessmentRepository
-                    .findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(
-                            classId, currentUserId, pageable);
+                    .findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId(classId, pageable);
             default -> throw new ForbiddenException("Unsupported role: " + currentUserRole.getFirst());
         };
 
+        // Batch count query for the whole page — avoids per-row COUNT and enrollment collection loads
+        Map<UUID, AssessmentRepository.AssessmentCounts> countsByAssessment =
+                fetchCountsByAssessment(pageAssessments.getContent());
+
         List<AssessmentResponse> items = pageAssessments.stream()
                 .map(
                         assessment -> {
-                            Integer totalSubmitted = submissionRepository.countByAssessmentAndStatus(assessment, SubmissionStatus.SUBMITTED);
-                            Integer totalStudents = assessment.getClassSubSubjectInstructor()
-                                    .getClassSubSubject()
-                                    .getClazz()
-                                    .getStudentClassEnrollments()
-                                    .size();
+                            AssessmentRepository.AssessmentCounts counts = countsByAssessment.get(assessment.getAssessmentId());
+                            Integer totalSubmitted = counts != null ? counts.getTotalSubmitted().intValue() : 0;
+                            Integer totalStudents = counts != null ? counts.getTotalStudents().intValue() : 0;
                             return assessment.toResponse(totalSubmitted, totalStudents);
                         }
                 )
@@ -140,10 +148,12 @@ public class AssessmentServiceImpl implements AssessmentService {
                     .findByAssessmentIdAndClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassIdAndCreatedBy(
                             assessmentId, classId, currentUserId)
                     .orElseThrow(() -> new NotFoundException("Assessment " + assessmentId + " not found."));
-            case "ROLE_STUDENT" -> assessmentRepository
-                    .findByAssessmentIdAndClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassIdAndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(
-                            assessmentId, classId, currentUserId)
-                    .orElseThrow(() -> new NotFoundException("Assessment " + assessmentId + " not found."));
+            case "ROLE_STUDENT" -> {
+                if (!membershipService.isStudentOf(currentUserId, classId)) {
+                    throw new NotFoundException("Assessment " + assessmentId + " not found.");
+                }
+                yield getOrThrow(classId, assessmentId);
+            }
             default -> throw new ForbiddenException("Unsupported role: " + currentUserRole.getFirst());
         };
 
@@ -202,16 +212,18 @@ public class AssessmentServiceImpl implements AssessmentService {
             throw new ForbiddenException("You are not assigned to this class.");
         }
 
+        List<String> objectNames = new ArrayList<>();
+
         if (assessment.getResources() != null) {
             for (Resource resource : assessment.getResources()) {
-                fileService.deleteFileByFileName(resource.getName());
+                objectNames.add(resource.getName());
             }
         }
 
         for (Question question : assessment.getQuestions()) {
             if (question.getQuestionImages() != null) {
                 for (QuestionImage questionImage : question.getQuestionImages()) {
-                    fileService.deleteFileByFileName(questionImage.getImageUrl());
+                    objectNames.add(questionImage.getImageUrl());
                 }
             }
         }
@@ -219,12 +231,17 @@ public class AssessmentServiceImpl implements AssessmentService {
         for (Submission submission : assessment.getSubmissions()) {
             if (submission.getPapers() != null) {
                 for (Paper paper : submission.getPapers()) {
-                    fileService.deleteFileByFileName(paper.getName());
+                    objectNames.add(paper.getName());
                 }
             }
         }
 
         assessmentRepository.delete(assessment);
+        assessmentStatsRepository.deleteById(assessmentId);
+        assessmentContentCacheService.evict(assessmentId);
+
+        // Objects are purged in the background once this transaction commits
+        fileDeletionOutboxService.enqueue(objectNames);
 
     }
 
@@ -259,6 +276,7 @@ public class AssessmentServiceImpl implements AssessmentService {
                 .toList();
 
         resourceRepository.saveAll(resources);
+        assessmentContentCacheService.evict(assessment.getAssessmentId());
     }
 
     @Override
@@ -273,9 +291,7 @@ public class AssessmentServiceImpl implements AssessmentService {
                         "Assessment " + assessmentId + " not found in class " + classId + "."
                 ));
 
-        List<Resource> resources = resourceRepository.findAllByAssessment(assessment);
-
-        return resources.stream().map(Resource::toResponse).toList();
+        return assessmentContentCacheService.getResources(assessment.getAssessmentId());
     }
 
     @Override
@@ -409,23 +425,19 @@ public class AssessmentServiceImpl implements AssessmentService {
             default -> throw new ForbiddenException("Unsupported role: " + currentUserRole.getFirst());
         };
 
+        Map<UUID, AssessmentStats> statsByAssessment = fetchStatsByAssessment(pageAssessments.getContent());
+        Map<UUID, Long> studentCountByClass = fetchStudentCountByClass(pageAssessments.getContent());
+
         List<AssessmentResponseForGrading> items = pageAssessments.stream()
                 .map(assessment -> {
 
-                    Integer totalSubmitted = submissionRepository.countByAssessmentAndStatus(assessment, SubmissionStatus.SUBMITTED);
-                    Integer totalStudents = assessment.getClassSubSubjectInstructor()
-                            .getClassSubSubject()
-                            .getClazz()
-                            .getStudentClassEnrollments()
-                            .size();
-
-                    Integer totalSubmissions = submissionRepository.countByAssessment(assessment);
-                    Integer totalPublished = submissionRepository.countByAssessmentAndPublishedAtIsNotNull(assessment);
+                    AssessmentStats stats = statsByAssessment.get(assessment.getAssessmentId());
+                    Integer totalSubmitted = stats != null ? stats.getTotalSubmitted().intValue() : 0;
+                    Integer totalStudents = studentCountByClass
+                            .getOrDefault(classIdOf(assessment), 0L)
+                            .intValue();
 
-                    log.info("totalSubmissions {}", totalSubmissions);
-                    log.info("totalPublished {}", totalPublished);
-
-                    boolean isPublished = totalSubmissions > 0 && totalPublished.equals(totalSubmissions);
+                    boolean isPublished = isFullyPublished(stats);
 
                     Boolean isGraded = null;
                     SubmissionStatus status = null;
@@ -474,11 +486,10 @@ public class AssessmentServiceImpl implements AssessmentService {
     public AssessmentSummary getAssessmentsSummary(Month month) {
         UUID currentUserId = UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
 
-        List<Assessment> assessments;
+        AssessmentRepository.AssessmentTypeCounts counts;
 
         if (month == null) {
-            assessments = assessmentRepository
-                    .findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(currentUserId);
+            counts = assessmentRepository.countTypesByStudentId(currentUserId);
         } else {
             int year = LocalDate.now().getYear();
             YearMonth ym = YearMonth.of(year, month);
@@ -496,30 +507,15 @@ public class AssessmentServiceImpl implements AssessmentService {
                     .atZone(zone)
                     .toInstant();
 
-            assessments = assessmentRepository
-                    .findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId_AndStartDateBetween(
-                            currentUserId, newStartDate, newDueDate);
-        }
-
-        int exams = 0;
-        int quizzes = 0;
-        int assignments = 0;
-        int homeworks = 0;
-
-        for (Assessment assessment : assessments) {
-            switch (assessment.getAssessmentType()) {
-                case EXAM -> exams++;
-                case QUIZ -> quizzes++;
-                case ASSIGNMENT -> assignments++;
-                case HOMEWORK -> homeworks++;
-            }
+            counts = assessmentRepository
+                    .countTypesByStudentIdAndStartDateBetween(currentUserId, newStartDate, newDueDate);
         }
 
         return AssessmentSummary.builder()
-                .exams(exams)
-                .quizzes(quizzes)
-                .assignments(assignments)
-                .homeworks(homeworks)
+                .exams(counts.getExams().intValue())
+                .quizzes(counts.getQuizzes().intValue())
+                .assignments(counts.getAssignments().intValue())
+                .homeworks(counts.getHomeworks().intValue())
                 .build();
     }
 
@@ -543,20 +539,20 @@ public class AssessmentServiceImpl implements AssessmentService {
 
         boolean isStudent = roles.contains("ROLE_STUDENT");
 
+        Map<UUID, AssessmentStats> statsByAssessment = fetchStatsByAssessment(pageAssessments.getContent());
+        Map<UUID, Long> studentCountByClass = fetchStudentCountByClass(pageAssessments.getContent());
+
         return pageAssessments.getContent().stream()
                 .map(assessment -> {
 
-                    Integer totalSubmitted = submissionRepository.countByAssessmentAndStartedAtIsNotNull(assessment);
-
-                    Integer totalStudents = assessment.getClassSubSubjectInstructor()
-                            .getClassSubSubject()
-                            .getClazz()
-                            .getStudentClassEnrollments()
-                            .size();
+                    AssessmentStats stats = statsByAssessment.get(assessment.getAssessmentId());
+                    Integer totalSubmitted = stats != null ? stats.getTotalStarted().intValue() : 0;
 
-                    Integer totalPublished = submissionRepository.countByAssessmentAndPublishedAtIsNotNull(assessment);
+                    Integer totalStudents = studentCountByClass
+                            .getOrDefault(classIdOf(assessment), 0L)
+                            .intValue();
 
-                    boolean isPublished = totalSubmitted > 0 && totalPublished.equals(totalSubmitted);
+                    boolean isPublished = isFullyPublished(stats);
 
                     Boolean isGraded = null;
                     SubmissionStatus status = null;
@@ -609,119 +605,13 @@ public class AssessmentServiceImpl implements AssessmentService {
     public AssessmentProfileSummary getAssessmentsProfileSummary() {
         UUID currentUserId = UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
 
-        List<Assessment> assessments =
-                assessmentRepository.findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(currentUserId);
-
-        long totalAssessments = assessments.size();
-
-        List<Submission> mySubmissionsPerAssessment = assessments.stream()
-                .map(a -> a.getSubmissions().stream()
-                        .filter(s -> currentUserId.equals(s.getStudentId()))
-                        .max(Comparator.comparing(Submission::getSubmittedAt, Comparator.nullsLast(Comparator.naturalOrder()))
-                                .thenComparing(Submission::getStartedAt, Comparator.nullsLast(Comparator.naturalOrder()))
-                        )
-                        .orElse(null)
-                )
-                .filter(Objects::nonNull)
-                .toList();
-
-        long totalCompleted = mySubmissionsPerAssessment.stream()
-                .filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED)
-                .count();
-
-        long totalPending = mySubmissionsPerAssessment.stream()
-                .filter(s -> s.getStatus() == SubmissionStatus.NOT_SUBMITTED)
-                .count();
-
-        long totalFailed = mySubmissionsPerAssessment.stream()
-                .filter(s -> s.getStatus() == SubmissionStatus.MISSED)
-                .count();
-
-        BigDecimal totalScoreEarned = mySubmissionsPerAssessment.stream()
-                .map(Submission::getScoreEarned)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalMaxScore = mySubmissionsPerAssessment.stream()
-                .map(Submission::getMaxScore)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal percentageAssessments = safeDivide(totalScoreEarned, totalMaxScore);
-        BigDecimal bdTotalAssessments = BigDecimal.valueOf(totalAssessments);
-        BigDecimal percentageCompleted = safeDivide(BigDecimal.valueOf(totalCompleted), bdTotalAssessments);
-        BigDecimal percentagePending = safeDivide(BigDecimal.valueOf(totalPending), bdTotalAssessments);
-        BigDecimal percentageFailed = safeDivide(BigDecimal.valueOf(totalFailed), bdTotalAssessments);
-
-        return AssessmentProfileSummary.builder()
-                .totalAssessments(totalAssessments)
-                .totalCompleted(totalCompleted)
-                .totalPending(totalPending)
-                .totalFailed(totalFailed)
-                .percentageAssessments(percentageAssessments)
-                .percentageCompleted(percentageCompleted)
-                .percentagePending(percentagePending)
-                .percentageFailed(percentageFailed)
-                .build();
+        return buildProfileSummary(assessmentRepository.sumProfileTotalsByStudentId(currentUserId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public AssessmentProfileSummary getAssessmentsProfileSummaryByStudentId(UUID studentId) {
-        List<Assessment> assessments =
-                assessmentRepository.findAllByClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(studentId);
-
-        long totalAssessments = assessments.size();
-
-        List<Submission> mySubmissionsPerAssessment = assessments.stream()
-                .map(a -> a.getSubmissions().stream()
-                        .filter(s -> studentId.equals(s.getStudentId()))
-                        .max(Comparator.comparing(Submission::getSubmittedAt, Comparator.nullsLast(Comparator.naturalOrder()))
-                                .thenComparing(Submission::getStartedAt, Comparator.nullsLast(Comparator.naturalOrder()))
-                        )
-                        .orElse(null)
-                )
-                .filter(Objects::nonNull)
-                .toList();
-
-        long totalCompleted = mySubmissionsPerAssessment.stream()
-                .filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED)
-                .count();
-
-        long totalPending = mySubmissionsPerAssessment.stream()
-                .filter(s -> s.getStatus() == SubmissionStatus.NOT_SUBMITTED)
-                .count();
-
-        long totalFailed = mySubmissionsPerAssessment.stream()
-                .filter(s -> s.getStatus() == SubmissionStatus.MISSED)
-                .count();
-
-        BigDecimal totalScoreEarned = mySubmissionsPerAssessment.stream()
-                .map(Submission::getScoreEarned)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalMaxScore = mySubmissionsPerAssessment.stream()
-                .map(Submission::getMaxScore)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal percentageAssessments = safeDivide(totalScoreEarned, totalMaxScore);
-        BigDecimal bdTotalAssessments = BigDecimal.valueOf(totalAssessments);
-        BigDecimal percentageCompleted = safeDivide(BigDecimal.valueOf(totalCompleted), bdTotalAssessments);
-        BigDecimal percentagePending = safeDivide(BigDecimal.valueOf(totalPending), bdTotalAssessments);
-        BigDecimal percentageFailed = safeDivide(BigDecimal.valueOf(totalFailed), bdTotalAssessments);
-
-        return AssessmentProfileSummary.builder()
-                .totalAssessments(totalAssessments)
-                .totalCompleted(totalCompleted)
-                .totalPending(totalPending)
-                .totalFailed(totalFailed)
-                .percentageAssessments(percentageAssessments)
-                .percentageCompleted(percentageCompleted)
-                .percentagePending(percentagePending)
-                .percentageFailed(percentageFailed)
-                .build();
+        return buildProfileSummary(assessmentRepository.sumProfileTotalsByStudentId(studentId));
     }
 
     @Transactional(readOnly = true)
@@ -732,20 +622,20 @@ public class AssessmentServiceImpl implements AssessmentService {
         Page<Assessment> pageAssessments = assessmentRepository
                 .findRecentByMySubmissionStartedAt(studentId, pageable);
 
+        Map<UUID, AssessmentStats> statsByAssessment = fetchStatsByAssessment(pageAssessments.getContent());
+        Map<UUID, Long> studentCountByClass = fetchStudentCountByClass(pageAssessments.getContent());
+
         return pageAssessments.getContent().stream()
                 .map(assessment -> {
 
-                    Integer totalSubmitted = submissionRepository.countByAssessmentAndStartedAtIsNotNull(assessment);
+                    AssessmentStats stats = statsByAssessment.get(assessment.getAssessmentId());
+                    Integer totalSubmitted = stats != null ? stats.getTotalStarted().intValue() : 0;
 
-                    Integer totalStudents = assessment.getClassSubSubjectInstructor()
-                            .getClassSubSubject()
-                            .getClazz()
-                            .getStudentClassEnrollments()
-                            .size();
+                    Integer totalStudents = studentCountByClass
+                            .getOrDefault(classIdOf(assessment), 0L)
+                            .intValue();
 
-                    Integer totalPublished = submissionRepository.countByAssessmentAndPublishedAtIsNotNull(assessment);
-
-                    boolean isPublished = totalSubmitted > 0 && totalPublished.equals(totalSubmitted);
+                    boolean isPublished = isFullyPublished(stats);
 
                     Boolean isGraded = null;
                     SubmissionStatus status = null;
@@ -796,72 +686,24 @@ public class AssessmentServiceImpl implements AssessmentService {
     public InstructorAssessmentSummary getInstructorAssessmentSummary() {
         UUID instructorId = extractCurrentUserId();
 
-        List<Assessment> allAssessments = assessmentRepository.findAllByCreatedBy(instructorId);
-
-        long totalAssessments = allAssessments.size();
-        long totalInProgress = allAssessments.stream()
-                .filter(a -> a.getStatus() == AssessmentStatus.STARTED)
-                .count();
-        long totalInReview = allAssessments.stream()
-                .filter(a -> a.getStatus() == AssessmentStatus.FINISHED)
-                .count();
-        long totalPublished = allAssessments.stream()
-                .filter(a -> a.getStatus() == AssessmentStatus.SCHEDULED)
-                .count();
-
-        Map<UUID, Long> assessmentCountByClass = allAssessments.stream()
-                .collect(Collectors.groupingBy(
-                        a -> a.getClassSubSubjectInstructor().getClassSubSubject().getClazz().getClassId(),
-                        Collectors.counting()
-                ));
-
-        // Deduplicate classes (an instructor may teach multiple sub-subjects in the same class)
-        List<Class> classes = classRepository
-                .findAllByClassSubSubjects_ClassSubSubjectInstructors_InstructorId(instructorId)
-                .stream()
-                .collect(Collectors.toMap(
-                        Class::getClassId,
-                        c -> c,
-                        (c1, c2) -> c1
-                ))
-                .values()
-                .stream()
-                .toList();
-
-        List<UUID> classIds = classes.stream()
-                .map(kr.com.mfa.mfaphase1api.model.entity.Class::getClassId)
-                .toList();
+        AssessmentRepository.InstructorStatusCounts statusCounts =
+                assessmentRepository.countStatusesByCreatedBy(instructorId);
 
-        Map<UUID, Long> studentCountByClass = classRepository.countStudentsByClassIds(classIds)
+        List<InstructorClassSummary> classSummaries = classRepository.findInstructorClassStats(instructorId)
                 .stream()
-                .collect(Collectors.toMap(
-                        row -> (UUID) row[0],
-                        row -> (Long) row[1]
-                ));
-
-        List<InstructorClassSummary> classSummaries = classes.stream()
-                .map(clazz -> {
-                    String subjectName = clazz.getClassSubSubjects().stream()
-                            .flatMap(css -> css.getClassSubSubjectInstructors().stream())
-                            .filter(csi -> instructorId.equals(csi.getInstructorId()))
-                            .map(csi -> csi.getClassSubSubject().getSubSubject().getName())
-                            .findFirst()
-                            .orElse(null);
-
-                    return InstructorClassSummary.builder()
-                            .className(clazz.getName())
-                            .subjectName(subjectName)
-                            .totalStudents(studentCountByClass.getOrDefault(clazz.getClassId(), 0L))
-                            .totalAssessments(assessmentCountByClass.getOrDefault(clazz.getClassId(), 0L))
-                            .build();
-                })
+                .map(row -> InstructorClassSummary.builder()
+                        .className(row.getClassName())
+                        .subjectName(row.getSubjectName())
+                        .totalStudents(row.getTotalStudents())
+                        .totalAssessments(row.getTotalAssessments())
+                        .build())
                 .toList();
 
         return InstructorAssessmentSummary.builder()
-                .totalAssessments(totalAssessments)
-                .totalAssessmentsInProgress(totalInProgress)
-                .totalAssessmentsInReview(totalInReview)
-                .totalAssessmentPublished(totalPublished)
+                .totalAssessments(statusCounts.getTotalAssessments())
+                .totalAssessmentsInProgress(statusCounts.getTotalInProgress())
+                .totalAssessmentsInReview(statusCounts.getTotalInReview())
+                .totalAssessmentPublished(statusCounts.getTotalScheduled())
                 .classes(classSummaries)
                 .build();
     }
@@ -878,7 +720,86 @@ public class AssessmentServiceImpl implements AssessmentService {
     }
 
     private void validateFilesExist(List<String> fileNames) {
-        fileNames.forEach(fileService::getFileByFileName);
+        Set<String> missing = fileService.findMissingFiles(fileNames);
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("File not found: " + String.join(", ", missing));
+        }
+    }
+
+    private Map<UUID, AssessmentRepository.AssessmentCounts> fetchCountsByAssessment(List<Assessment> assessments) {
+        if (assessments.isEmpty()) return Map.of();
+
+        List<UUID> assessmentIds = assessments.stream()
+                .map(Assessment::getAssessmentId)
+                .toList();
+
+        return assessmentRepository.findCountsByAssessmentIds(assessmentIds, SubmissionStatus.SUBMITTED)
+                .stream()
+                .collect(Collectors.toMap(
+                        AssessmentRepository.AssessmentCounts::getAssessmentId,
+                        counts -> counts
+                ));
+    }
+
+    private Map<UUID, AssessmentStats> fetchStatsByAssessment(List<Assessment> assessments) {
+        List<UUID> assessmentIds = assessments.stream()
+                .map(Assessment::getAssessmentId)
+                .toList();
+
+        return assessmentStatsService.getStatsByAssessmentIds(assessmentIds);
+    }
+
+    private Map<UUID, Long> fetchStudentCountByClass(List<Assessment> assessments) {
+        List<UUID> classIds = assessments.stream()
+                .map(this::classIdOf)
+                .distinct()
+                .toList();
+
+        if (classIds.isEmpty()) return Map.of();
+
+        return classRepository.countStudentsByClassIds(classIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> (UUID) row[0],
+                        row -> (Long) row[1]
+                ));
+    }
+
+    private UUID classIdOf(Assessment assessment) {
+        return assessment.getClassSubSubjectInstructor()
+                .getClassSubSubject()
+                .getClazz()
+                .getClassId();
+    }
+
+    private boolean isFullyPublished(AssessmentStats stats) {
+        return stats != null
+                && stats.getTotalStarted() > 0
+                && stats.getTotalPublished().equals(stats.getTotalStarted());
+    }
+
+    private AssessmentProfileSummary buildProfileSummary(AssessmentRepository.StudentAssessmentTotals totals) {
+        long totalAssessments = totals.getTotalAssessments();
+        long totalCompleted = totals.getTotalCompleted();
+        long totalPending = totals.getTotalPending();
+        long totalFailed = totals.getTotalFailed();
+
+        BigDecimal percentageAssessments = safeDivide(totals.getTotalScoreEarned(), totals.getTotalMaxScore());
+        BigDecimal bdTotalAssessments = BigDecimal.valueOf(totalAssessments);
+        BigDecimal percentageCompleted = safeDivide(BigDecimal.valueOf(totalCompleted), bdTotalAssessments);
+        BigDecimal percentagePending = safeDivide(BigDecimal.valueOf(totalPending), bdTotalAssessments);
+        BigDecimal percentageFailed = safeDivide(BigDecimal.valueOf(totalFailed), bdTotalAssessments);
+
+        return AssessmentProfileSummary.builder()
+                .totalAssessments(totalAssessments)
+                .totalCompleted(totalCompleted)
+                .totalPending(totalPending)
+                .totalFailed(totalFailed)
+                .percentageAssessments(percentageAssessments)
+                .percentageCompleted(percentageCompleted)
+                .percentagePending(percentagePending)
+                .percentageFailed(percentageFailed)
+                .build();
     }
 
     private BigDecimal safeDivide(BigDecimal numerator, BigDecimal denominator) {
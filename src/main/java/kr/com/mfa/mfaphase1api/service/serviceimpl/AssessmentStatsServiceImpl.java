@@ -0,0 +1,190 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import kr.com.mfa.mfaphase1api.model.entity.AssessmentStats;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
+import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
+import kr.com.mfa.mfaphase1api.repository.AssessmentStatsRepository;
+import kr.com.mfa.mfaphase1api.repository.SubmissionRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssessmentStatsServiceImpl implements AssessmentStatsService {
+
+    // Starts arrive in bursts at exam start. They only mark the assessment in Redis; the flush job then
+    // recounts total_started from the submissions, so the request path never waits on the stats row and
+    // a mark that is applied twice, or races a rebuild, cannot skew the count
+    private static final String DIRTY_STARTED_KEY = "assessment-stats:dirty-started";
+
+    // Takes the whole set in one step, so starts marked while a flush runs land in the next one
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local dirty = redis.call('SMEMBERS', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return dirty
+            """, List.class);
+
+    private final AssessmentStatsRepository assessmentStatsRepository;
+    private final AssessmentRepository assessmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void recordStarted(UUID assessmentId) {
+        // Counted once the new submission is committed, so a rolled-back start is never counted
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bufferStarted(assessmentId);
+                }
+            });
+        } else {
+            bufferStarted(assessmentId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordStatusChange(UUID assessmentId, SubmissionStatus from, SubmissionStatus to) {
+        if (from == to) return;
+
+        long submitted = bucket(to, SubmissionStatus.SUBMITTED) - bucket(from, SubmissionStatus.SUBMITTED);
+        long late = bucket(to, SubmissionStatus.LATE) - bucket(from, SubmissionStatus.LATE);
+        long missed = bucket(to, SubmissionStatus.MISSED) - bucket(from, SubmissionStatus.MISSED);
+
+        if (submitted == 0 && late == 0 && missed == 0) return;
+
+        assessmentStatsRepository.increment(assessmentId, 0, submitted, late, missed, 0, 0);
+    }
+
+    @Override
+    @Transactional
+    public void recordMissed(UUID assessmentId, int count) {
+        if (count <= 0) return;
+        // MISSED rows are stamped with startedAt as well, so they count towards totalStarted
+        assessmentStatsRepository.increment(assessmentId, count, 0, 0, count, 0, 0);
+    }
+
+    @Override
+    @Transactional
+    public void recordGraded(UUID assessmentId) {
+        recordGraded(assessmentId, 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordGraded(UUID assessmentId, int count) {
+        if (count <= 0) return;
+        assessmentStatsRepository.increment(assessmentId, 0, 0, 0, 0, count, 0);
+    }
+
+    @Override
+    @Transactional
+    public void recordPublished(UUID assessmentId, int count) {
+        if (count <= 0) return;
+        assessmentStatsRepository.increment(assessmentId, 0, 0, 0, 0, 0, count);
+    }
+
+    @Override
+    @Transactional
+    public void recordDeleted(UUID assessmentId, SubmissionStatus status, boolean graded, boolean published) {
+        assessmentStatsRepository.increment(
+                assessmentId,
+                -1,
+                -bucket(status, SubmissionStatus.SUBMITTED),
+                -bucket(status, SubmissionStatus.LATE),
+                -bucket(status, SubmissionStatus.MISSED),
+                graded ? -1 : 0,
+                published ? -1 : 0
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, AssessmentStats> getStatsByAssessmentIds(Collection<UUID> assessmentIds) {
+        if (assessmentIds.isEmpty()) return Map.of();
+
+        return assessmentStatsRepository.findAllByAssessmentIdIn(assessmentIds).stream()
+                .collect(Collectors.toMap(AssessmentStats::getAssessmentId, stats -> stats));
+    }
+
+    @Override
+    public int flushPendingStarted() {
+        @SuppressWarnings("unchecked")
+        List<String> drained = redisTemplate.execute(DRAIN_SCRIPT, List.of(DIRTY_STARTED_KEY));
+        if (drained == null || drained.isEmpty()) return 0;
+
+        // Sorted, so concurrent flushes lock the stats rows in the same order
+        List<UUID> assessmentIds = drained.stream()
+                .map(UUID::fromString)
+                .sorted()
+                .toList();
+
+        try {
+            newTransaction().executeWithoutResult(status -> assessmentIds.forEach(this::recountStarted));
+        } catch (RuntimeException e) {
+            // Mark them again for the next run rather than losing them
+            redisTemplate.opsForSet().add(DIRTY_STARTED_KEY, drained.toArray(String[]::new));
+            throw e;
+        }
+
+        return assessmentIds.size();
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        // Increments and flushes wait until this commits, so none is lost under or added on top of the
+        // rebuilt rows; starts still marked in Redis only trigger a recount, which is idempotent
+        assessmentStatsRepository.lockForRebuild();
+        assessmentStatsRepository.deleteAllStats();
+        int rebuilt = assessmentStatsRepository.rebuildFromSubmissions();
+        assessmentRepository.backfillLastSubmissionActivity();
+        submissionRepository.backfillScoreTotals();
+        log.info("Rebuilt assessment stats for {} assessments", rebuilt);
+        return rebuilt;
+    }
+
+    private void bufferStarted(UUID assessmentId) {
+        try {
+            redisTemplate.opsForSet().add(DIRTY_STARTED_KEY, assessmentId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Marking start for assessment {} failed, recounting it directly: {}", assessmentId, e.getMessage());
+            newTransaction().executeWithoutResult(status -> recountStarted(assessmentId));
+        }
+    }
+
+    private void recountStarted(UUID assessmentId) {
+        // Separate statements: the count's snapshot is taken only once the row lock is held
+        assessmentStatsRepository.lockForRecount(assessmentId);
+        assessmentStatsRepository.recountStarted(assessmentId);
+    }
+
+    // Called after the caller's commit or from the flush job, so it must not join another transaction
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private long bucket(SubmissionStatus status, SubmissionStatus target) {
+        return status == target ? 1 : 0;
+    }
+}
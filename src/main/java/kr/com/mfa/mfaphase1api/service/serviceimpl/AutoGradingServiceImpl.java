@@ -0,0 +1,246 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.com.mfa.mfaphase1api.exception.NotFoundException;
+import kr.com.mfa.mfaphase1api.model.dto.response.AutoGradingResponse;
+import kr.com.mfa.mfaphase1api.model.enums.GradingMode;
+import kr.com.mfa.mfaphase1api.model.enums.QuestionType;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
+import kr.com.mfa.mfaphase1api.repository.AnswerRepository;
+import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
+import kr.com.mfa.mfaphase1api.repository.QuestionRepository;
+import kr.com.mfa.mfaphase1api.repository.SubmissionRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import kr.com.mfa.mfaphase1api.service.AutoGradingService;
+import kr.com.mfa.mfaphase1api.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Scores AUTO-mode choice questions against an answer key read from the database once per run.
+ * Submissions are graded in fixed-size chunks, each in its own transaction, a few chunks at a time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoGradingServiceImpl implements AutoGradingService {
+
+    private static final Set<QuestionType> AUTO_GRADABLE_TYPES = EnumSet.of(
+            QuestionType.SINGLE_CHOICE,
+            QuestionType.MULTIPLE_CHOICE,
+            QuestionType.TRUE_FALSE
+    );
+    private static final Set<SubmissionStatus> GRADABLE_STATUSES = EnumSet.of(
+            SubmissionStatus.SUBMITTED,
+            SubmissionStatus.LATE,
+            SubmissionStatus.RESUBMITTED
+    );
+    private static final int CHUNK_SIZE = 50;
+    // Each chunk holds a pooled connection, so stay well below the pool size
+    private static final int GRADING_PARALLELISM = 4;
+    private static final ExecutorService GRADING_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AssessmentRepository assessmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final AnswerRepository answerRepository;
+    private final QuestionRepository questionRepository;
+    private final AssessmentStatsService assessmentStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public AutoGradingResponse autoGradeSubmissionResults(UUID assessmentId) {
+
+        UUID currentUserId = extractCurrentUserId();
+
+        assessmentRepository.findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
+                .orElseThrow(() -> new NotFoundException(
+                        "Assessment with ID " + assessmentId + " not found"
+                ));
+
+        return gradeAssessment(assessmentId, currentUserId);
+    }
+
+    @Override
+    public AutoGradingResponse gradeAssessment(UUID assessmentId, UUID gradedBy) {
+
+        long startNanos = System.nanoTime();
+
+        AnswerKey key = buildAnswerKey(assessmentId);
+
+        if (key.entries().isEmpty()) {
+            return summarize(assessmentId, key, List.of(), startNanos);
+        }
+
+        List<UUID> submissionIds = submissionRepository.findUnpublishedSubmissionIds(assessmentId, GRADABLE_STATUSES);
+        Instant now = Instant.now();
+
+        Semaphore permits = new Semaphore(GRADING_PARALLELISM);
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+
+        for (int from = 0; from < submissionIds.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = submissionIds.subList(from, Math.min(from + CHUNK_SIZE, submissionIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return transactionTemplate.execute(status -> gradeChunk(assessmentId, key, chunk, gradedBy, now));
+                } finally {
+                    permits.release();
+                }
+            }, GRADING_EXECUTOR));
+        }
+
+        List<ChunkResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        return summarize(assessmentId, key, results, startNanos);
+    }
+
+    // Read straight from the tables rather than the content cache, which can lag behind instructor edits
+    private AnswerKey buildAnswerKey(UUID assessmentId) {
+        Map<UUID, BigDecimal> pointsByQuestion = new HashMap<>();
+        Map<UUID, Set<UUID>> correctByQuestion = new HashMap<>();
+
+        for (QuestionRepository.AnswerKeyRow row : questionRepository.findAnswerKeyRowsByAssessmentId(assessmentId)) {
+            pointsByQuestion.putIfAbsent(row.getQuestionId(), row.getPoints());
+
+            if (row.getMode() != GradingMode.AUTO || !AUTO_GRADABLE_TYPES.contains(row.getQuestionType())) {
+                continue;
+            }
+
+            Set<UUID> correctOptionIds = correctByQuestion.computeIfAbsent(row.getQuestionId(), id -> new HashSet<>());
+            if (row.getOptionId() != null) {
+                correctOptionIds.add(row.getOptionId());
+            }
+        }
+
+        BigDecimal maxScore = pointsByQuestion.values().stream()
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        Map<UUID, KeyEntry> entries = new HashMap<>();
+        correctByQuestion.forEach((questionId, correctOptionIds) -> {
+            // Without a correct option there is nothing to compare against; leave it to the instructor
+            if (correctOptionIds.isEmpty()) {
+                log.warn("Question {} is set to AUTO grading but has no correct option", questionId);
+                return;
+            }
+            entries.put(questionId, new KeyEntry(Set.copyOf(correctOptionIds)));
+        });
+
+        return new AnswerKey(Map.copyOf(entries), maxScore, entries.size() == pointsByQuestion.size());
+    }
+
+    private ChunkResult gradeChunk(UUID assessmentId, AnswerKey key, List<UUID> submissionIds, UUID gradedBy, Instant now) {
+
+        Map<UUID, UUID> questionByAnswer = new HashMap<>();
+        Map<UUID, Set<UUID>> selectedByAnswer = new HashMap<>();
+
+        for (AnswerRepository.AnswerSelection row : answerRepository.findSelectionsBySubmissionIdsAndQuestionIds(submissionIds, key.entries().keySet())) {
+            questionByAnswer.put(row.getAnswerId(), row.getQuestionId());
+            Set<UUID> selected = selectedByAnswer.computeIfAbsent(row.getAnswerId(), id -> new HashSet<>());
+            if (row.getOptionId() != null) {
+                selected.add(row.getOptionId());
+            }
+        }
+
+        List<UUID> correct = new ArrayList<>();
+        List<UUID> incorrect = new ArrayList<>();
+
+        questionByAnswer.forEach((answerId, questionId) -> {
+            // All-or-nothing: the selection has to match the correct options exactly
+            if (key.entries().get(questionId).correctOptionIds().equals(selectedByAnswer.get(answerId))) {
+                correct.add(answerId);
+            } else {
+                incorrect.add(answerId);
+            }
+        });
+
+        if (!correct.isEmpty()) {
+            answerRepository.markCorrect(correct, now);
+        }
+        if (!incorrect.isEmpty()) {
+            answerRepository.markIncorrect(incorrect, now);
+        }
+
+        submissionRepository.refreshScoreTotals(submissionIds, key.maxScore());
+
+        int graded = key.fullyAutomatic()
+                ? submissionRepository.markGraded(submissionIds, gradedBy, now)
+                : 0;
+
+        // Counted with the chunk that stamped gradedAt, so the stats commit or roll back together with it
+        assessmentStatsService.recordGraded(assessmentId, graded);
+
+        return new ChunkResult(submissionIds.size(), graded, questionByAnswer.size(), correct.size());
+    }
+
+    private AutoGradingResponse summarize(UUID assessmentId, AnswerKey key, List<ChunkResult> results, long startNanos) {
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        int submissionsScored = results.stream().mapToInt(ChunkResult::submissionsScored).sum();
+        int submissionsGraded = results.stream().mapToInt(ChunkResult::submissionsGraded).sum();
+        int answersScored = results.stream().mapToInt(ChunkResult::answersScored).sum();
+        int answersCorrect = results.stream().mapToInt(ChunkResult::answersCorrect).sum();
+
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        double answersPerSecond = elapsedSeconds > 0 ? answersScored / elapsedSeconds : 0;
+
+        Timer.builder("grading.auto.duration")
+                .description("Time taken to auto-grade one assessment")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+        Counter.builder("grading.auto.submissions")
+                .description("Submissions scored by the auto-grader")
+                .register(meterRegistry)
+                .increment(submissionsScored);
+        Counter.builder("grading.auto.answers")
+                .description("Answers scored by the auto-grader")
+                .register(meterRegistry)
+                .increment(answersScored);
+
+        log.info("Auto-graded assessment {}: {} submissions, {} answers ({} correct) in {} ms, {} answers/s",
+                assessmentId, submissionsScored, answersScored, answersCorrect,
+                elapsedNanos / 1_000_000, Math.round(answersPerSecond));
+
+        return AutoGradingResponse.builder()
+                .assessmentId(assessmentId)
+                .gradableQuestions(key.entries().size())
+                .submissionsScored(submissionsScored)
+                .submissionsGraded(submissionsGraded)
+                .answersScored(answersScored)
+                .answersCorrect(answersCorrect)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .answersPerSecond(answersPerSecond)
+                .build();
+    }
+
+    private UUID extractCurrentUserId() {
+        return UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
+    }
+
+    // Immutable, so every chunk worker can share one instance
+    private record AnswerKey(Map<UUID, KeyEntry> entries, BigDecimal maxScore, boolean fullyAutomatic) {
+    }
+
+    private record KeyEntry(Set<UUID> correctOptionIds) {
+    }
+
+    private record ChunkResult(int submissionsScored, int submissionsGraded, int answersScored, int answersCorrect) {
+    }
+}
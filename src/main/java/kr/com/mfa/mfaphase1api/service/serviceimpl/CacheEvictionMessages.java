@@ -0,0 +1,49 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Wire format of the shared Redis pub/sub channel the in-process caches use to tell every instance to drop
+ * (or reload) entries: {@code <kind>|<id>,<id>,...}. Each cache subscribes to the channel and only acts on
+ * its own kind.
+ */
+@Slf4j
+final class CacheEvictionMessages {
+
+    static final ChannelTopic TOPIC = new ChannelTopic("cache-evictions");
+
+    private static final char KIND_SEPARATOR = '|';
+    private static final String ID_SEPARATOR = ",";
+
+    private CacheEvictionMessages() {
+    }
+
+    static String format(String kind, Collection<UUID> ids) {
+        StringJoiner joiner = new StringJoiner(ID_SEPARATOR, kind + KIND_SEPARATOR, "");
+        ids.forEach(id -> joiner.add(id.toString()));
+        return joiner.toString();
+    }
+
+    // Empty when the message belongs to another kind or cannot be read
+    static List<UUID> parse(String kind, Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(KIND_SEPARATOR);
+        if (separator < 0 || !body.substring(0, separator).equals(kind)) return List.of();
+
+        List<UUID> ids = new ArrayList<>();
+        for (String id : body.substring(separator + 1).split(ID_SEPARATOR)) {
+            try {
+                ids.add(UUID.fromString(id));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed {} cache message '{}'", kind, body);
+                return List.of();
+            }
+        }
+        return ids;
+    }
+}
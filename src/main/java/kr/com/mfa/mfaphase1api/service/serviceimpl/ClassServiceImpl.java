@@ -13,6 +13,7 @@ import kr.com.mfa.mfaphase1api.model.enums.ClassProperty;
 import kr.com.mfa.mfaphase1api.model.enums.ClassSubSubjectProperty;
 import kr.com.mfa.mfaphase1api.repository.*;
 import kr.com.mfa.mfaphase1api.service.ClassService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +48,7 @@ public class ClassServiceImpl implements ClassService {
     private final SubSubjectRepository subSubjectRepository;
     private final ClassSubSubjectInstructorRepository classSubSubjectInstructorRepository;
     private final StudentClassEnrollmentRepository studentClassEnrollmentRepository;
+    private final MembershipService membershipService;
 
     private final UserClient userClient;
 
@@ -141,7 +143,12 @@ public class ClassServiceImpl implements ClassService {
     @Transactional
     public void deleteClassById(UUID classId) {
         getOrThrow(classId);
+
+        List<UUID> memberIds = new ArrayList<>(studentClassEnrollmentRepository.findStudentIdsByClassId(classId));
+        memberIds.addAll(classSubSubjectInstructorRepository.findInstructorIdsByClassId(classId));
+
         classRepository.deleteById(classId);
+        membershipService.evictAll(memberIds);
     }
 
     @Override
@@ -182,7 +189,10 @@ public class ClassServiceImpl implements ClassService {
         SubSubject subSubject = subSubjectRepository.findById(subSubjectId)
                 .orElseThrow(() -> new NotFoundException("SubSubject not found"));
 
+        List<UUID> instructorIds = classSubSubjectInstructorRepository.findInstructorIdsByClassId(classId);
+
         classSubSubjectRepository.deleteClassSubSubjectByClazz_AndSubSubject(clazz, subSubject);
+        membershipService.evictAll(instructorIds);
 
     }
 
@@ -233,6 +243,7 @@ public class ClassServiceImpl implements ClassService {
                 .build();
 
         classSubSubjectInstructorRepository.save(classSubSubjectInstructor);
+        membershipService.evict(userResponse.getUserId());
     }
 
     @Override
@@ -254,6 +265,7 @@ public class ClassServiceImpl implements ClassService {
         );
 
         classSubSubjectInstructorRepository.deleteClassSubSubjectInstructorByClassSubSubject_AndInstructorId(classSubSubjectInstructor.getClassSubSubject(), userResponse.getUserId());
+        membershipService.evict(userResponse.getUserId());
     }
 
     @Override
@@ -292,6 +304,7 @@ public class ClassServiceImpl implements ClassService {
         classSubSubjectInstructor.setTimeZone(request.getTimeZone());
 
         classSubSubjectInstructorRepository.save(classSubSubjectInstructor);
+        membershipService.evict(userResponse.getUserId());
 
     }
 
@@ -330,6 +343,7 @@ public class ClassServiceImpl implements ClassService {
                 .build();
 
         studentClassEnrollmentRepository.save(studentClassEnrollment);
+        membershipService.evict(userResponse.getUserId());
     }
 
     @Override
@@ -346,6 +360,7 @@ public class ClassServiceImpl implements ClassService {
         }
 
         studentClassEnrollmentRepository.deleteByStudentId_AndClazz(userResponse.getUserId(), clazz);
+        membershipService.evict(userResponse.getUserId());
     }
 
     @Override
@@ -379,6 +394,7 @@ public class ClassServiceImpl implements ClassService {
         studentClassEnrollment.setTimeZone(request.getTimeZone());
 
         studentClassEnrollmentRepository.save(studentClassEnrollment);
+        membershipService.evict(userResponse.getUserId());
     }
 
     @Override
@@ -440,6 +456,7 @@ public class ClassServiceImpl implements ClassService {
         studentClassEnrollmentRepository.save(newStudentClassEnrollment);
 
         studentClassEnrollmentRepository.deleteByStudentId_AndClazz(userResponse.getUserId(), fromClazz);
+        membershipService.evict(userResponse.getUserId());
 
     }
 
@@ -757,6 +774,7 @@ public class ClassServiceImpl implements ClassService {
                 .toList();
 
         studentClassEnrollmentRepository.saveAll(enrollments);
+        membershipService.evictAll(studentIds);
     }
 
     @Override
@@ -791,9 +809,12 @@ public class ClassServiceImpl implements ClassService {
             }
         }
 
+        List<UUID> instructorIds = classSubSubjectInstructorRepository.findInstructorIdsByClassId(classId);
+
         for (SubSubject subSubject : subSubjects) {
             classSubSubjectRepository.deleteClassSubSubjectByClazz_AndSubSubject(clazz, subSubject);
         }
+        membershipService.evictAll(instructorIds);
     }
 
     private Class getOrThrow(UUID classId) {
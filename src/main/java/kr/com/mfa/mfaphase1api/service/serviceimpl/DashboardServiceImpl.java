@@ -9,10 +9,10 @@ import kr.com.mfa.mfaphase1api.model.entity.Submission;
 import kr.com.mfa.mfaphase1api.model.enums.*;
 import kr.com.mfa.mfaphase1api.repository.*;
 import kr.com.mfa.mfaphase1api.service.DashboardService;
+import kr.com.mfa.mfaphase1api.service.UserCountService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +20,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,6 +29,7 @@ import java.util.stream.Collectors;
 public class DashboardServiceImpl implements DashboardService {
 
     private final UserClient userClient;
+    private final UserCountService userCountService;
     private final SubSubjectRepository subSubjectRepository;
     private final ClassRepository classRepository;
     private final AssessmentRepository assessmentRepository;
@@ -40,8 +40,8 @@ public class DashboardServiceImpl implements DashboardService {
     @Transactional(readOnly = true)
     public AdminOverviewResponse getAdminOverview() {
 
-        long totalInstructors = getUserCountByRole(BaseRole.ROLE_INSTRUCTOR);
-        long totalStudents = getUserCountByRole(BaseRole.ROLE_STUDENT);
+        long totalInstructors = userCountService.countByRole(BaseRole.ROLE_INSTRUCTOR);
+        long totalStudents = userCountService.countByRole(BaseRole.ROLE_STUDENT);
         long totalSubSubjects = subSubjectRepository.count();
         long totalClasses = classRepository.count();
 
@@ -288,6 +288,17 @@ public class DashboardServiceImpl implements DashboardService {
         // Count motivation content once — outside the class loop below
         long totalMotivation = motivationContentRepository.countByCreatedBy(currentUserId);
 
+        Instant startDate = null;
+        Instant endDate = null;
+
+        if (month != null) {
+            YearMonth ym = YearMonth.of(LocalDate.now().getYear(), month);
+            ZoneId zone = ZoneId.of("UTC");
+
+            startDate = ym.atDay(1).atStartOfDay(zone).toInstant();
+            endDate = ym.plusMonths(1).atDay(1).atStartOfDay(zone).toInstant();
+        }
+
         List<Assessment> assessments;
 
         if (month == null) {
@@ -299,28 +310,12 @@ public class DashboardServiceImpl implements DashboardService {
                     currentUserId, AssessmentStatus.FINISHED, classId
             );
         } else {
-            int year = LocalDate.now().getYear();
-            YearMonth ym = YearMonth.of(year, month);
-
-            LocalDateTime startDate = ym.atDay(1).atStartOfDay();
-            LocalDateTime endDate = ym.plusMonths(1).atDay(1).atStartOfDay();
-
-            ZoneId zone = ZoneId.of("UTC");
-
-            Instant newStartDate = startDate
-                    .atZone(zone)
-                    .toInstant();
-
-            Instant newEndDate = endDate
-                    .atZone(zone)
-                    .toInstant();
-
             assessments = (classId == null)
                     ? assessmentRepository.findAllByCreatedBy_AndStatus_AndStartDateBetween(
-                    currentUserId, AssessmentStatus.FINISHED, newStartDate, newEndDate
+                    currentUserId, AssessmentStatus.FINISHED, startDate, endDate
             )
                     : assessmentRepository.findAllByCreatedBy_AndStatus_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId_AndStartDateBetween(
-                    currentUserId, AssessmentStatus.FINISHED, classId, newStartDate, newEndDate
+                    currentUserId, AssessmentStatus.FINISHED, classId, startDate, endDate
             );
         }
 
@@ -335,109 +330,51 @@ public class DashboardServiceImpl implements DashboardService {
             }
         }
 
+        // One grouped aggregate for every class instead of an assessment and submission query per class
+        Map<UUID, List<AssessmentRepository.ClassAssessmentTypeSummary>> summariesByClass = classIds.isEmpty() ? Map.of() :
+                assessmentRepository.summarizeByClassAndType(
+                                currentUserId, AssessmentStatus.FINISHED, classIds, startDate, endDate, Instant.now()
+                        ).stream()
+                        .collect(Collectors.groupingBy(AssessmentRepository.ClassAssessmentTypeSummary::getClassId));
+
         List<AssessmentSummaryByClass> assessmentSummaryByClasses = new ArrayList<>();
         RecentActivity recentActivity = new RecentActivity();
         long totalPendingGradingAll = 0, totalUpcomingAssessmentAll = 0;
 
         for (Class clazz : classes) {
 
-            List<Assessment> assessmentsByClass;
-
-            if (month == null) {
-                assessmentsByClass = assessmentRepository.findAllByCreatedBy_AndStatus_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId(
-                        currentUserId, AssessmentStatus.FINISHED, clazz.getClassId()
-                );
-            } else {
-                int year = LocalDate.now().getYear();
-                YearMonth ym = YearMonth.of(year, month);
-
-                LocalDateTime startDate = ym.atDay(1).atStartOfDay();
-                LocalDateTime endDate = ym.plusMonths(1).atDay(1).atStartOfDay();
-
-                ZoneId zone = ZoneId.of("UTC");
-
-                Instant newStartDate = startDate.atZone(zone).toInstant();
-                Instant newEndDate = endDate.atZone(zone).toInstant();
-
-                assessmentsByClass = assessmentRepository.findAllByCreatedBy_AndStatus_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_ClassId_AndStartDateBetween(
-                        currentUserId, AssessmentStatus.FINISHED, clazz.getClassId(), newStartDate, newEndDate);
-            }
-
-            BigDecimal examAvg = BigDecimal.ZERO;
-            BigDecimal quizAvg = BigDecimal.ZERO;
-            BigDecimal assignmentAvg = BigDecimal.ZERO;
-            BigDecimal homeworkAvg = BigDecimal.ZERO;
-            long totalPendingGrading = 0, totalUpcomingAssessment = 0;
-
-            // Batch-fetch submission summaries for all assessments in this class — avoids N+1
-            List<UUID> assessmentIds = assessmentsByClass.stream()
-                    .map(Assessment::getAssessmentId)
-                    .toList();
-            Map<UUID, List<SubmissionRepository.SubmissionSummary>> summariesByAssessment =
-                    assessmentIds.isEmpty() ? Map.of() :
-                            submissionRepository.findSummariesByAssessmentIds(assessmentIds).stream()
-                                    .collect(Collectors.groupingBy(SubmissionRepository.SubmissionSummary::getAssessmentId));
-
-            for (Assessment assessment : assessmentsByClass) {
-
-                Instant startAt = assessment.getStartDate();
-                if (startAt == null) continue;
-
-                ZoneId zone = ZoneId.of(assessment.getTimeZone());
-                ZonedDateTime nowZdt = ZonedDateTime.now(zone);
-
-                ZonedDateTime weekEndZdt = nowZdt
-                        .with(TemporalAdjusters.next(DayOfWeek.MONDAY))
-                        .toLocalDate()
-                        .atStartOfDay(zone);
-
-                Instant now = nowZdt.toInstant();
-                Instant weekEnd = weekEndZdt.toInstant();
-
-                if (startAt.isBefore(now) && startAt.isBefore(weekEnd)) {
-                    totalUpcomingAssessment++;
-                }
+            AssessmentSummaryByClass summaryByClass = AssessmentSummaryByClass.builder()
+                    .classId(clazz.getClassId())
+                    .className(clazz.getName())
+                    .exams(BigDecimal.ZERO)
+                    .assignments(BigDecimal.ZERO)
+                    .quizzes(BigDecimal.ZERO)
+                    .homeworks(BigDecimal.ZERO)
+                    .build();
 
-                List<SubmissionRepository.SubmissionSummary> summaries =
-                        summariesByAssessment.getOrDefault(assessment.getAssessmentId(), List.of());
-                if (summaries.isEmpty()) continue;
+            for (AssessmentRepository.ClassAssessmentTypeSummary row : summariesByClass.getOrDefault(clazz.getClassId(), List.of())) {
 
-                BigDecimal totalStudentScore = BigDecimal.ZERO;
+                totalUpcomingAssessmentAll += row.getUpcomingCount();
+                totalPendingGradingAll += row.getPendingGradingCount();
 
-                for (SubmissionRepository.SubmissionSummary summary : summaries) {
-                    if (summary.getScoreEarned() != null) {
-                        totalStudentScore = totalStudentScore.add(summary.getScoreEarned());
-                    }
-                    if (summary.getGradedAt() == null) {
-                        totalPendingGrading++;
-                    }
-                }
+                if (row.getSubmissionCount() == 0) continue;
 
-                BigDecimal avgScore = totalStudentScore.divide(
-                        BigDecimal.valueOf(summaries.size()),
+                // Ungraded submissions count as zero, as they always have on this dashboard
+                BigDecimal avgScore = row.getTotalScoreEarned().divide(
+                        BigDecimal.valueOf(row.getSubmissionCount()),
                         2,
                         RoundingMode.HALF_UP
                 );
 
-                switch (assessment.getAssessmentType()) {
-                    case EXAM -> examAvg = avgScore;
-                    case QUIZ -> quizAvg = avgScore;
-                    case ASSIGNMENT -> assignmentAvg = avgScore;
-                    case HOMEWORK -> homeworkAvg = avgScore;
+                switch (row.getAssessmentType()) {
+                    case EXAM -> summaryByClass.setExams(avgScore);
+                    case QUIZ -> summaryByClass.setQuizzes(avgScore);
+                    case ASSIGNMENT -> summaryByClass.setAssignments(avgScore);
+                    case HOMEWORK -> summaryByClass.setHomeworks(avgScore);
                 }
             }
 
-            assessmentSummaryByClasses.add(AssessmentSummaryByClass.builder()
-                    .classId(clazz.getClassId())
-                    .className(clazz.getName())
-                    .exams(examAvg)
-                    .assignments(assignmentAvg)
-                    .quizzes(quizAvg)
-                    .homeworks(homeworkAvg)
-                    .build());
-
-            totalPendingGradingAll += totalPendingGrading;
-            totalUpcomingAssessmentAll += totalUpcomingAssessment;
+            assessmentSummaryByClasses.add(summaryByClass);
         }
 
         // totalMotivation is fetched once above the loop — set after the loop
@@ -462,15 +399,6 @@ public class DashboardServiceImpl implements DashboardService {
                 .build();
     }
 
-    private long getUserCountByRole(BaseRole role) {
-        return Optional.ofNullable(userClient.getAllUsersBaseRole(role))
-                .map(ResponseEntity::getBody)
-                .map(APIResponse::getPayload)
-                .map(List::size)
-                .map(Integer::longValue)
-                .orElse(0L);
-    }
-
     private UUID extractCurrentUserId() {
         return UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
     }
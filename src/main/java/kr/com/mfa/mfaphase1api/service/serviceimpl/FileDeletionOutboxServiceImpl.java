@@ -0,0 +1,130 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import kr.com.mfa.mfaphase1api.model.entity.PendingFileDeletion;
+import kr.com.mfa.mfaphase1api.repository.PendingFileDeletionRepository;
+import kr.com.mfa.mfaphase1api.service.FileDeletionOutboxService;
+import kr.com.mfa.mfaphase1api.service.FileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionOutboxServiceImpl implements FileDeletionOutboxService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    // Comfortably longer than a batch of chunked bulk deletes takes
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final FileService fileService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional
+    public void enqueue(Collection<String> fileNames) {
+        Instant now = Instant.now();
+
+        List<PendingFileDeletion> rows = fileNames.stream()
+                .filter(Objects::nonNull)
+                .filter(name -> !name.isBlank())
+                .distinct()
+                .map(name -> PendingFileDeletion.builder()
+                        .objectName(name)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+
+        pendingFileDeletionRepository.saveAll(rows);
+    }
+
+    @Override
+    @Transactional
+    public void scheduleDeletion(String fileName, Instant dueAt) {
+        pendingFileDeletionRepository.save(PendingFileDeletion.builder()
+                .objectName(fileName)
+                .attempts(0)
+                .nextAttemptAt(dueAt)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void cancel(String fileName) {
+        pendingFileDeletionRepository.deleteAllByObjectName(fileName);
+    }
+
+    @Override
+    public int purgeDueBatch() {
+        // Claimed in a short transaction that pushes next_attempt_at out as a lease, so no row lock or
+        // pooled connection is held during the storage round trips below
+        List<PendingFileDeletion> due = transactionTemplate.execute(status -> claimBatch(Instant.now()));
+        if (due == null || due.isEmpty()) return 0;
+
+        List<String> objectNames = due.stream()
+                .map(PendingFileDeletion::getObjectName)
+                .distinct()
+                .toList();
+
+        Map<String, String> failures = fileService.deleteFilesByFileNames(objectNames);
+
+        Integer purged = transactionTemplate.execute(status -> recordResults(due, failures, Instant.now()));
+
+        if (!failures.isEmpty()) {
+            log.warn("Purged {} objects, {} failed and will be retried", purged, failures.size());
+        }
+        return purged == null ? 0 : purged;
+    }
+
+    private List<PendingFileDeletion> claimBatch(Instant now) {
+        List<PendingFileDeletion> due = pendingFileDeletionRepository.claimDue(now, MAX_ATTEMPTS, BATCH_SIZE);
+        // Another run skips these until the lease runs out, e.g. if this instance dies mid-batch
+        due.forEach(row -> row.setNextAttemptAt(now.plus(CLAIM_LEASE)));
+        return due;
+    }
+
+    private int recordResults(List<PendingFileDeletion> claimed, Map<String, String> failures, Instant now) {
+        List<UUID> done = new ArrayList<>();
+        List<UUID> failed = new ArrayList<>();
+        for (PendingFileDeletion row : claimed) {
+            if (failures.containsKey(row.getObjectName())) {
+                failed.add(row.getPendingFileDeletionId());
+            } else {
+                done.add(row.getPendingFileDeletionId());
+            }
+        }
+
+        pendingFileDeletionRepository.deleteAllByIdInBatch(done);
+
+        for (PendingFileDeletion row : pendingFileDeletionRepository.findAllById(failed)) {
+            String error = failures.get(row.getObjectName());
+
+            int attempts = row.getAttempts() + 1;
+            row.setAttempts(attempts);
+            row.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+            row.setNextAttemptAt(now.plus(backoff(attempts)));
+
+            if (attempts >= MAX_ATTEMPTS) {
+                log.error("Giving up deleting object {} after {} attempts: {}", row.getObjectName(), attempts, error);
+            }
+        }
+
+        return done.size();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
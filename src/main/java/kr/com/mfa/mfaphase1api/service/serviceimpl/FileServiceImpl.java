@@ -1,24 +1,41 @@
 package kr.com.mfa.mfaphase1api.service.serviceimpl;
 
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import jakarta.annotation.PostConstruct;
+import kr.com.mfa.mfaphase1api.exception.BadRequestException;
 import kr.com.mfa.mfaphase1api.exception.InternalException;
 import kr.com.mfa.mfaphase1api.exception.NotFoundException;
+import kr.com.mfa.mfaphase1api.model.dto.response.PresignedUrlResponse;
 import kr.com.mfa.mfaphase1api.model.entity.FileMetadata;
+import kr.com.mfa.mfaphase1api.service.FileDeletionOutboxService;
 import kr.com.mfa.mfaphase1api.service.FileService;
+import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -28,10 +45,29 @@ public class FileServiceImpl implements FileService {
     @Value("${minio.bucket-name}")
     private String bucketName;
 
+    // Presigned uploads bypass the multipart limit, so the same cap is enforced on completion
+    @Value("${spring.servlet.multipart.max-file-size:20MB}")
+    private DataSize maxFileSize;
+
     private final MinioClient minioClient;
+    @Qualifier("presignedMinioClient")
+    private final MinioClient presignedMinioClient;
+    private final StringRedisTemplate redisTemplate;
+    // Lazy: the outbox purges through this service
+    @Lazy
+    private final FileDeletionOutboxService fileDeletionOutboxService;
 
     private static final String PREVIEW_PATH = "/api/v1/files/preview/{file-name}";
-    private static final ExecutorService UPLOAD_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final ExecutorService STORAGE_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final int REMOVE_BATCH_SIZE = 1000;
+    private static final int REMOVE_PARALLELISM = 4;
+    private static final int STAT_PARALLELISM = 16;
+    private static final Duration PRESIGNED_URL_EXPIRY = Duration.ofMinutes(10);
+    private static final String UPLOAD_OWNER_KEY_PREFIX = "file-uploads:";
+    // Leaves time to finish a slow upload that started just before the URL expired
+    private static final Duration UPLOAD_OWNER_TTL = Duration.ofHours(1);
+    // Uploads never completed are removed once they can no longer be completed
+    private static final Duration ORPHAN_UPLOAD_DELAY = UPLOAD_OWNER_TTL.plusMinutes(5);
 
     @PostConstruct
     public void initBucket() {
@@ -51,15 +87,8 @@ public class FileServiceImpl implements FileService {
     @Override
     public FileMetadata uploadFile(final MultipartFile file) {
         final String originalName = Optional.ofNullable(file.getOriginalFilename()).orElse("file");
-        final String ext = Optional.ofNullable(StringUtils.getFilenameExtension(originalName))
-                .map(String::toLowerCase)
-                .orElse(null);
-        final String objectName = (ext == null) ? UUID.randomUUID().toString()
-                : UUID.randomUUID() + "." + ext;
-
-        final String contentType = Optional.ofNullable(file.getContentType())
-                .filter(s -> !s.isBlank())
-                .orElse("application/octet-stream");
+        final String objectName = newObjectName(originalName);
+        final String contentType = resolveContentType(file.getContentType());
 
         try (InputStream in = file.getInputStream()) {
             minioClient.putObject(
@@ -110,7 +139,7 @@ public class FileServiceImpl implements FileService {
     public List<FileMetadata> multipleUploadFile(final List<MultipartFile> files) {
         List<CompletableFuture<FileMetadata>> futures = files.stream()
                 .filter(f -> f != null && !f.isEmpty())
-                .map(file -> CompletableFuture.supplyAsync(() -> uploadFile(file), UPLOAD_EXECUTOR))
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadFile(file), STORAGE_EXECUTOR))
                 .toList();
 
         return futures.stream()
@@ -139,6 +168,223 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    @Override
+    public Map<String, String> deleteFilesByFileNames(final List<String> fileNames) {
+        if (fileNames.isEmpty()) return Map.of();
+
+        Semaphore permits = new Semaphore(REMOVE_PARALLELISM);
+        List<CompletableFuture<Map<String, String>>> futures = new ArrayList<>();
+
+        for (int from = 0; from < fileNames.size(); from += REMOVE_BATCH_SIZE) {
+            List<String> chunk = fileNames.subList(from, Math.min(from + REMOVE_BATCH_SIZE, fileNames.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return removeChunk(chunk);
+                } finally {
+                    permits.release();
+                }
+            }, STORAGE_EXECUTOR));
+        }
+
+        Map<String, String> failures = new HashMap<>();
+        futures.forEach(future -> failures.putAll(future.join()));
+        return failures;
+    }
+
+    @Override
+    public Set<String> findMissingFiles(final Collection<String> fileNames) {
+        if (fileNames.isEmpty()) return Set.of();
+
+        // Metadata-only checks, fanned out so a large upload costs about one round trip
+        Semaphore permits = new Semaphore(STAT_PARALLELISM);
+        Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+
+        for (String fileName : new LinkedHashSet<>(fileNames)) {
+            futures.put(fileName, CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return objectExists(fileName);
+                } finally {
+                    permits.release();
+                }
+            }, STORAGE_EXECUTOR));
+        }
+
+        Set<String> missing = new LinkedHashSet<>();
+        try {
+            futures.forEach((fileName, future) -> {
+                if (!future.join()) missing.add(fileName);
+            });
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        return missing;
+    }
+
+    private boolean objectExists(String fileName) {
+        try {
+            minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(fileName)
+                            .build()
+            );
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw new InternalException("Failed to check file: " + fileName);
+        } catch (Exception e) {
+            // Anything but a definite "no such key" is a storage fault, not a missing file
+            throw new InternalException("Failed to check file: " + fileName);
+        }
+    }
+
+    // Missing objects are reported as deleted by the bulk API, so only real storage errors come back
+    private Map<String, String> removeChunk(List<String> chunk) {
+        Map<String, String> failures = new HashMap<>();
+        try {
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(bucketName)
+                            .objects(chunk.stream().map(DeleteObject::new).toList())
+                            .build()
+            );
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                failures.put(error.objectName(), error.message());
+            }
+        } catch (Exception e) {
+            chunk.forEach(name -> failures.putIfAbsent(name, String.valueOf(e.getMessage())));
+        }
+        return failures;
+    }
+
+    @Override
+    public PresignedUrlResponse createUploadUrl(final String originalName, final String contentType) {
+        final String objectName = newObjectName(originalName);
+        final String resolvedContentType = resolveContentType(contentType);
+
+        // Content-Type is part of the signature, so the stored object carries the declared type
+        Map<String, String> headers = Map.of("Content-Type", resolvedContentType);
+
+        try {
+            String url = presignedMinioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.PUT)
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .expiry((int) PRESIGNED_URL_EXPIRY.toSeconds(), TimeUnit.SECONDS)
+                            .extraHeaders(headers)
+                            .build()
+            );
+
+            // Removed by the purge job unless completed; the size cap is only enforced on completion
+            fileDeletionOutboxService.scheduleDeletion(objectName, Instant.now().plus(ORPHAN_UPLOAD_DELAY));
+
+            // Only the caller the name was issued to may complete it (and have an oversized object removed)
+            redisTemplate.opsForValue().set(uploadOwnerKey(objectName), extractCurrentUserId().toString(), UPLOAD_OWNER_TTL);
+
+            return PresignedUrlResponse.builder()
+                    .fileName(objectName)
+                    .method(Method.PUT.name())
+                    .url(url)
+                    .requiredHeaders(headers)
+                    .expiresAt(Instant.now().plus(PRESIGNED_URL_EXPIRY))
+                    .build();
+        } catch (Exception e) {
+            throw new InternalException("Failed to create upload URL for: " + originalName);
+        }
+    }
+
+    @Override
+    public FileMetadata completeUpload(final String fileName) {
+        String ownerId = redisTemplate.opsForValue().get(uploadOwnerKey(fileName));
+        if (ownerId == null || !ownerId.equals(extractCurrentUserId().toString())) {
+            throw new NotFoundException("File not found: " + fileName);
+        }
+
+        StatObjectResponse stat;
+        try {
+            stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(fileName)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw new NotFoundException("File not found: " + fileName);
+        }
+
+        redisTemplate.delete(uploadOwnerKey(fileName));
+        fileDeletionOutboxService.cancel(fileName);
+
+        if (stat.size() > maxFileSize.toBytes()) {
+            deleteFileByFileName(fileName);
+            throw new BadRequestException("File exceeds the maximum size of " + maxFileSize.toMegabytes() + "MB: " + fileName);
+        }
+
+        return FileMetadata.builder()
+                .fileName(fileName)
+                .fileUrl(buildPreviewUrl(fileName))
+                .fileType(resolveContentType(stat.contentType()))
+                .fileSize(stat.size())
+                .build();
+    }
+
+    @Override
+    public PresignedUrlResponse createDownloadUrl(final String fileName) {
+        if (!objectExists(fileName)) {
+            throw new NotFoundException("File not found: " + fileName);
+        }
+
+        try {
+            String url = presignedMinioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.GET)
+                            .bucket(bucketName)
+                            .object(fileName)
+                            .expiry((int) PRESIGNED_URL_EXPIRY.toSeconds(), TimeUnit.SECONDS)
+                            .build()
+            );
+
+            return PresignedUrlResponse.builder()
+                    .fileName(fileName)
+                    .method(Method.GET.name())
+                    .url(url)
+                    .requiredHeaders(Map.of())
+                    .expiresAt(Instant.now().plus(PRESIGNED_URL_EXPIRY))
+                    .build();
+        } catch (Exception e) {
+            throw new InternalException("Failed to create download URL for: " + fileName);
+        }
+    }
+
+    private String newObjectName(String originalName) {
+        final String ext = Optional.ofNullable(StringUtils.getFilenameExtension(originalName))
+                .map(String::toLowerCase)
+                .orElse(null);
+        return (ext == null) ? UUID.randomUUID().toString()
+                : UUID.randomUUID() + "." + ext;
+    }
+
+    private String resolveContentType(String contentType) {
+        return Optional.ofNullable(contentType)
+                .filter(s -> !s.isBlank())
+                .orElse("application/octet-stream");
+    }
+
+    private String uploadOwnerKey(String objectName) {
+        return UPLOAD_OWNER_KEY_PREFIX + objectName;
+    }
+
+    private UUID extractCurrentUserId() {
+        return UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
+    }
+
     private String buildPreviewUrl(String objectName) {
         return UriComponentsBuilder.fromPath(PREVIEW_PATH)
                 .buildAndExpand(objectName)
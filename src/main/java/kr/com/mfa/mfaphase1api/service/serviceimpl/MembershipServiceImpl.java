@@ -0,0 +1,197 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import kr.com.mfa.mfaphase1api.model.dto.response.MembershipIndex;
+import kr.com.mfa.mfaphase1api.repository.ClassSubSubjectInstructorRepository;
+import kr.com.mfa.mfaphase1api.repository.StudentClassEnrollmentRepository;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two-tier user → class membership index. A short-lived in-process tier absorbs request bursts,
+ * the shared Redis tier keeps instances warm. Writers must call {@link #evict(UUID)} on change.
+ * <p>
+ * A reader that queried the database before a change committed can still write its result after the
+ * eviction ran. Fills therefore never overwrite an entry, and every eviction is repeated once after
+ * {@link #EVICTION_REPEAT_DELAY}, which bounds how long such a late fill can serve the old membership.
+ * Evictions are broadcast over Redis pub/sub, so other instances drop their in-process entry as well.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MembershipServiceImpl implements MembershipService {
+
+    private static final String CACHE_NAME = "memberships";
+    private static final String EVICTION_KIND = "memberships";
+    private static final Duration EVICTION_REPEAT_DELAY = Duration.ofSeconds(5);
+
+    private static final ScheduledExecutorService EVICTION_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("membership-eviction").daemon().factory()
+    );
+
+    private final StudentClassEnrollmentRepository studentClassEnrollmentRepository;
+    private final ClassSubSubjectInstructorRepository classSubSubjectInstructorRepository;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // Evictions are broadcast; the short TTL only covers a lost message
+    private final Cache<UUID, MembershipIndex> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @PostConstruct
+    void subscribeToEvictions() {
+        redisMessageListenerContainer.addMessageListener((message, pattern) ->
+                localCache.invalidateAll(CacheEvictionMessages.parse(EVICTION_KIND, message)),
+                CacheEvictionMessages.TOPIC);
+    }
+
+    @Override
+    public boolean isStudentOf(UUID userId, UUID classId) {
+        return getIndex(userId).getStudentClassIds().contains(classId);
+    }
+
+    @Override
+    public boolean isInstructorOf(UUID userId, UUID classId) {
+        return getIndex(userId).getInstructorClassIds().contains(classId);
+    }
+
+    @Override
+    // Own transaction so a failed warm-up cannot mark the caller's transaction rollback-only
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void warm(Collection<UUID> userIds) {
+        Set<UUID> missing = new HashSet<>(userIds);
+        missing.removeAll(localCache.getAllPresent(missing).keySet());
+        if (missing.isEmpty()) return;
+
+        // Two set-based queries instead of two per user
+        Map<UUID, MembershipIndex> indexes = new HashMap<>();
+        for (UUID userId : missing) {
+            indexes.put(userId, MembershipIndex.builder().build());
+        }
+        for (StudentClassEnrollmentRepository.StudentClassId row : studentClassEnrollmentRepository.findClassIdsByStudentIds(missing)) {
+            indexes.get(row.getStudentId()).getStudentClassIds().add(row.getClassId());
+        }
+        for (ClassSubSubjectInstructorRepository.InstructorClassId row : classSubSubjectInstructorRepository.findClassIdsByInstructorIds(missing)) {
+            indexes.get(row.getInstructorId()).getInstructorClassIds().add(row.getClassId());
+        }
+
+        localCache.putAll(indexes);
+
+        org.springframework.cache.Cache remote = cacheManager.getCache(CACHE_NAME);
+        if (remote == null) return;
+
+        for (Map.Entry<UUID, MembershipIndex> entry : indexes.entrySet()) {
+            try {
+                remote.putIfAbsent(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Membership cache write failed for user {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        evictAll(List.of(userId));
+    }
+
+    @Override
+    public void evictAll(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) return;
+
+        Set<UUID> ids = new HashSet<>(userIds);
+
+        // Evict after commit, otherwise a concurrent read could re-cache the pre-change membership
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(ids);
+                }
+            });
+        } else {
+            doEvict(ids);
+        }
+    }
+
+    private MembershipIndex getIndex(UUID userId) {
+        return localCache.get(userId, this::loadFromRemoteOrDatabase);
+    }
+
+    private MembershipIndex loadFromRemoteOrDatabase(UUID userId) {
+        org.springframework.cache.Cache remote = cacheManager.getCache(CACHE_NAME);
+
+        if (remote != null) {
+            try {
+                MembershipIndex cached = remote.get(userId, MembershipIndex.class);
+                if (cached != null) return cached;
+            } catch (RuntimeException e) {
+                log.warn("Membership cache read failed for user {}: {}", userId, e.getMessage());
+            }
+        }
+
+        MembershipIndex index = MembershipIndex.builder()
+                .studentClassIds(new HashSet<>(studentClassEnrollmentRepository.findClassIdsByStudentId(userId)))
+                .instructorClassIds(new HashSet<>(classSubSubjectInstructorRepository.findClassIdsByInstructorId(userId)))
+                .build();
+
+        if (remote != null) {
+            try {
+                remote.putIfAbsent(userId, index);
+            } catch (RuntimeException e) {
+                log.warn("Membership cache write failed for user {}: {}", userId, e.getMessage());
+            }
+        }
+
+        return index;
+    }
+
+    private void doEvict(Set<UUID> userIds) {
+        evictNow(userIds);
+
+        // Catches a fill from a database read that started before the change committed
+        EVICTION_SCHEDULER.schedule(() -> evictNow(userIds), EVICTION_REPEAT_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void evictNow(Set<UUID> userIds) {
+        localCache.invalidateAll(userIds);
+
+        org.springframework.cache.Cache remote = cacheManager.getCache(CACHE_NAME);
+        if (remote != null) {
+            for (UUID userId : userIds) {
+                try {
+                    remote.evict(userId);
+                } catch (RuntimeException e) {
+                    log.warn("Membership cache eviction failed for user {}: {}", userId, e.getMessage());
+                }
+            }
+        }
+
+        // Remote tier first, so an instance reloading on the message cannot pick up the old entry
+        try {
+            redisTemplate.convertAndSend(CacheEvictionMessages.TOPIC.getTopic(),
+                    CacheEvictionMessages.format(EVICTION_KIND, userIds));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast membership eviction for {} users: {}", userIds.size(), e.getMessage());
+        }
+    }
+}
@@ -12,6 +12,8 @@ import kr.com.mfa.mfaphase1api.model.entity.Question;
 import kr.com.mfa.mfaphase1api.model.enums.OptionProperty;
 import kr.com.mfa.mfaphase1api.repository.OptionRepository;
 import kr.com.mfa.mfaphase1api.repository.QuestionRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentContentCacheService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.service.OptionService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ import org.springframework.security.oauth2.jwt.JwtClaimAccessor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -39,6 +42,8 @@ public class OptionServiceImpl implements OptionService {
 
     private final OptionRepository optionRepository;
     private final QuestionRepository questionRepository;
+    private final AssessmentContentCacheService assessmentContentCacheService;
+    private final MembershipService membershipService;
 
     @Override
     @Transactional
@@ -53,6 +58,7 @@ public class OptionServiceImpl implements OptionService {
         int optionOrder = optionRepository.countByQuestion(question) + 1;
 
         Option saved = optionRepository.saveAndFlush(request.toEntity(optionOrder, question));
+        assessmentContentCacheService.evict(question.getAssessment().getAssessmentId());
 
         return saved.toResponse();
     }
@@ -75,14 +81,18 @@ public class OptionServiceImpl implements OptionService {
                     .findByQuestionId_AndAssessment_CreatedBy(questionId, currentUserId)
                     .orElseThrow(() -> new NotFoundException("Question " + questionId + " not found"));
 
-            case "ROLE_STUDENT" -> question = questionRepository
-                    .findByQuestionId_AndAssessment_ClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(questionId, currentUserId)
+            case "ROLE_STUDENT" -> question = findQuestionForStudent(questionId, currentUserId)
                     .orElseThrow(() -> new NotFoundException("Question " + questionId + " not found"));
 
             default -> throw new ForbiddenException("Unsupported role: " + currentUserRole.getFirst());
 
         }
 
+        // Students read the cached snapshot, pre-warmed when the assessment starts
+        if (currentUserRole.getFirst().equals("ROLE_STUDENT")) {
+            return pageCachedOptions(question, page, size, property, direction);
+        }
+
         int zeroBased = Math.max(page, 1) - 1;
         Pageable pageable = PageRequest.of(zeroBased, size, Sort.by(direction, property.getProperty()));
         Page<Option> pageOptions = optionRepository.findAllByQuestion_QuestionId(question.getQuestionId(), pageable);
@@ -122,14 +132,20 @@ public class OptionServiceImpl implements OptionService {
                     .findByQuestionId_AndAssessment_CreatedBy(questionId, currentUserId)
                     .orElseThrow(() -> new NotFoundException("Question " + questionId + " not found"));
 
-            case "ROLE_STUDENT" -> question = questionRepository
-                    .findByQuestionId_AndAssessment_ClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(questionId, currentUserId)
+            case "ROLE_STUDENT" -> question = findQuestionForStudent(questionId, currentUserId)
                     .orElseThrow(() -> new NotFoundException("Question " + questionId + " not found"));
 
             default -> throw new ForbiddenException("Unsupported role: " + currentUserRole.getFirst());
 
         }
 
+        if (currentUserRole.getFirst().equals("ROLE_STUDENT")) {
+            return assessmentContentCacheService.getOptions(question.getAssessment().getAssessmentId(), questionId).stream()
+                    .filter(option -> option.getOptionId().equals(optionId))
+                    .findFirst()
+                    .orElseThrow(() -> new NotFoundException("Option " + optionId + " not found"));
+        }
+
         Option option = optionRepository.findAllByQuestion_QuestionId_AndOptionId(question.getQuestionId(), optionId)
                 .orElseThrow(() -> new NotFoundException("Option " + optionId + " not found"));
 
@@ -151,6 +167,7 @@ public class OptionServiceImpl implements OptionService {
 
         option.setText(request.getText());
         option.setIsCorrect(request.getIsCorrect());
+        assessmentContentCacheService.evict(question.getAssessment().getAssessmentId());
 
         return option.toResponse();
     }
@@ -168,6 +185,7 @@ public class OptionServiceImpl implements OptionService {
                 .orElseThrow(() -> new NotFoundException("Option " + optionId + " not found"));
 
         optionRepository.delete(option);
+        assessmentContentCacheService.evict(question.getAssessment().getAssessmentId());
     }
 
     @Override
@@ -183,6 +201,7 @@ public class OptionServiceImpl implements OptionService {
                 .orElseThrow(() -> new ForbiddenException("You are not authorized to create options in this question"));
 
         AtomicInteger optionOrder = new AtomicInteger(optionRepository.countByQuestion(question) + 1);
+        assessmentContentCacheService.evict(question.getAssessment().getAssessmentId());
 
         return requests.stream()
                 .map(request -> {
@@ -202,6 +221,8 @@ public class OptionServiceImpl implements OptionService {
                 .findByQuestionId_AndAssessment_CreatedBy(questionId, currentUserId)
                 .orElseThrow(() -> new ForbiddenException("You are not authorized to update option in this question"));
 
+        assessmentContentCacheService.evict(question.getAssessment().getAssessmentId());
+
         return requests.stream()
                 .map(request -> {
                     Option option = optionRepository.findAllByQuestion_QuestionId_AndOptionId(question.getQuestionId(), request.getOptionId())
@@ -215,5 +236,40 @@ public class OptionServiceImpl implements OptionService {
                 .toList();
     }
 
+    // Membership comes from the cached index instead of a join through the enrollment table
+    private Optional<Question> findQuestionForStudent(UUID questionId, UUID studentId) {
+        return questionRepository.findByIdWithClassInfo(questionId)
+                .filter(question -> membershipService.isStudentOf(
+                        studentId,
+                        question.getAssessment().getClassSubSubjectInstructor().getClassSubSubject().getClazz().getClassId()
+                ));
+    }
+
+    private PagedResponse<List<OptionResponse>> pageCachedOptions(Question question, Integer page, Integer size, OptionProperty property, Sort.Direction direction) {
+        List<OptionResponse> options = assessmentContentCacheService
+                .getOptions(question.getAssessment().getAssessmentId(), question.getQuestionId());
 
+        Comparator<OptionResponse> comparator = switch (property) {
+            case OPTION_ID -> Comparator.comparing(OptionResponse::getOptionId);
+            case TEXT -> Comparator.comparing(OptionResponse::getText);
+            case OPTION_ORDER -> Comparator.comparing(OptionResponse::getOptionOrder);
+            case CREATED_AT -> Comparator.comparing(OptionResponse::getCreatedAt);
+        };
+        if (direction.isDescending()) comparator = comparator.reversed();
+
+        int zeroBased = Math.max(page, 1) - 1;
+        List<OptionResponse> items = options.stream()
+                .sorted(comparator)
+                .skip((long) zeroBased * size)
+                .limit(size)
+                .toList();
+
+        return pageResponse(
+                items,
+                (long) options.size(),
+                page,
+                size,
+                (options.size() + size - 1) / size
+        );
+    }
 }
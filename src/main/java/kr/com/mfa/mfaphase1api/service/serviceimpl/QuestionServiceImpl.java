@@ -12,8 +12,11 @@ import kr.com.mfa.mfaphase1api.model.enums.QuestionProperty;
 import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
 import kr.com.mfa.mfaphase1api.repository.QuestionImageRepository;
 import kr.com.mfa.mfaphase1api.repository.QuestionRepository;
+import kr.com.mfa.mfaphase1api.repository.SubmissionRepository;
 //import kr.com.mfa.mfaphase1api.repository.QuestionTypeRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentContentCacheService;
 import kr.com.mfa.mfaphase1api.service.FileService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.service.QuestionService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,8 @@ import org.springframework.security.oauth2.jwt.JwtClaimAccessor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -44,6 +49,9 @@ public class QuestionServiceImpl implements QuestionService {
     private final AssessmentRepository assessmentRepository;
     private final QuestionImageRepository questionImageRepository;
     private final FileService fileService;
+    private final MembershipService membershipService;
+    private final AssessmentContentCacheService assessmentContentCacheService;
+    private final SubmissionRepository submissionRepository;
 
     @Override
     @Transactional
@@ -74,6 +82,8 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         Question saved = questionRepository.saveAndFlush(question);
+        submissionRepository.addMaxScore(assessment.getAssessmentId(), saved.getPoints());
+        assessmentContentCacheService.evict(assessment.getAssessmentId());
 
         return saved.toResponse();
     }
@@ -96,7 +106,7 @@ public class QuestionServiceImpl implements QuestionService {
                             .orElseThrow(() -> new NotFoundException("Assessment not found"));
 
             case "ROLE_STUDENT" ->
-                    assessment = assessmentRepository.findByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(assessmentId, currentUserId).orElseThrow(
+                    assessment = findAssessmentForStudent(assessmentId, currentUserId).orElseThrow(
                             () -> new NotFoundException("Assessment not found")
                     );
 
@@ -104,6 +114,11 @@ public class QuestionServiceImpl implements QuestionService {
 
         }
 
+        // Students read the cached snapshot, pre-warmed when the assessment starts
+        if (currentUserRole.getFirst().equals("ROLE_STUDENT")) {
+            return pageCachedQuestions(assessment.getAssessmentId(), page, size, property, direction);
+        }
+
         int zeroBased = Math.max(page, 1) - 1;
         Pageable pageable = PageRequest.of(zeroBased, size, Sort.by(direction, property.getProperty()));
         Page<Question> pageQuestions = questionRepository.findAllByAssessment_AssessmentId(assessment.getAssessmentId(), pageable);
@@ -140,7 +155,7 @@ public class QuestionServiceImpl implements QuestionService {
                             .orElseThrow(() -> new NotFoundException("Assessment " + assessmentId + " not found"));
 
             case "ROLE_STUDENT" ->
-                    assessment = assessmentRepository.findByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(assessmentId, currentUserId).orElseThrow(
+                    assessment = findAssessmentForStudent(assessmentId, currentUserId).orElseThrow(
                             () -> new NotFoundException("Assessment " + assessmentId + " not found")
                     );
 
@@ -148,6 +163,13 @@ public class QuestionServiceImpl implements QuestionService {
 
         }
 
+        if (currentUserRole.getFirst().equals("ROLE_STUDENT")) {
+            return assessmentContentCacheService.getQuestions(assessment.getAssessmentId()).stream()
+                    .filter(question -> question.getQuestionId().equals(questionId))
+                    .findFirst()
+                    .orElseThrow(() -> new NotFoundException("Question " + questionId + " not found"));
+        }
+
         Question question = getOrThrow(assessment.getAssessmentId(), questionId);
 
         return question.toResponse();
@@ -167,6 +189,8 @@ public class QuestionServiceImpl implements QuestionService {
 //        QuestionType questionType = questionTypeRepository.findById(request.getQuestionTypeId())
 //                .orElseThrow(() -> new NotFoundException("QuestionType not found"));
 
+        BigDecimal pointsDelta = request.getPoints().subtract(question.getPoints());
+
         question.setTitle(request.getTitle());
         question.setText(request.getText());
         question.setPoints(request.getPoints());
@@ -188,6 +212,12 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         Question saved = questionRepository.saveAndFlush(question);
+        // Keeps every score within the lowered cap, as the old re-summed totals were
+        if (pointsDelta.signum() < 0) {
+            submissionRepository.clampQuestionPoints(saved.getQuestionId(), saved.getPoints());
+        }
+        submissionRepository.addMaxScore(assessment.getAssessmentId(), pointsDelta);
+        assessmentContentCacheService.evict(assessment.getAssessmentId());
 
         return saved.toResponse();
     }
@@ -208,7 +238,10 @@ public class QuestionServiceImpl implements QuestionService {
             }
         }
 
+        // Before the delete, while the question's answers can still be summed
+        submissionRepository.removeQuestionPoints(assessment.getAssessmentId(), questionId, question.getPoints());
         questionRepository.delete(question);
+        assessmentContentCacheService.evict(assessment.getAssessmentId());
 
     }
 
@@ -225,6 +258,7 @@ public class QuestionServiceImpl implements QuestionService {
                 .orElseThrow(() -> new ForbiddenException("You are not authorized to create questions in this assessment"));
 
         AtomicInteger questionOrder = new AtomicInteger(questionRepository.countByAssessment(assessment) + 1);
+        assessmentContentCacheService.evict(assessment.getAssessmentId());
 
         return requests.stream()
                 .map(request -> {
@@ -243,6 +277,7 @@ public class QuestionServiceImpl implements QuestionService {
                     }
 
                     Question saved = questionRepository.saveAndFlush(question);
+                    submissionRepository.addMaxScore(assessment.getAssessmentId(), saved.getPoints());
 
                     return saved.toResponse();
                 })
@@ -257,10 +292,14 @@ public class QuestionServiceImpl implements QuestionService {
         Assessment assessment = assessmentRepository.findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
                 .orElseThrow(() -> new ForbiddenException("You are not authorized to modify question in this assessment"));
 
+        assessmentContentCacheService.evict(assessment.getAssessmentId());
+
         return requests.stream()
                 .map(request -> {
                     Question question = getOrThrow(assessment.getAssessmentId(), request.getQuestionId());
 
+                    BigDecimal pointsDelta = request.getPoints().subtract(question.getPoints());
+
                     question.setTitle(request.getTitle());
                     question.setText(request.getText());
                     question.setPoints(request.getPoints());
@@ -282,15 +321,55 @@ public class QuestionServiceImpl implements QuestionService {
                     }
 
                     Question saved = questionRepository.saveAndFlush(question);
+                    if (pointsDelta.signum() < 0) {
+                        submissionRepository.clampQuestionPoints(saved.getQuestionId(), saved.getPoints());
+                    }
+                    submissionRepository.addMaxScore(assessment.getAssessmentId(), pointsDelta);
 
                     return saved.toResponse();
                 })
                 .toList();
     }
 
+    private PagedResponse<List<QuestionResponse>> pageCachedQuestions(UUID assessmentId, Integer page, Integer size, QuestionProperty property, Sort.Direction direction) {
+        List<QuestionResponse> questions = assessmentContentCacheService.getQuestions(assessmentId);
+
+        Comparator<QuestionResponse> comparator = switch (property) {
+            case QUESTION_ID -> Comparator.comparing(QuestionResponse::getQuestionId);
+            case TITLE -> Comparator.comparing(QuestionResponse::getText);
+            case QUESTION_ORDER -> Comparator.comparing(QuestionResponse::getQuestionOrder);
+            case POINTS -> Comparator.comparing(QuestionResponse::getPoints);
+            case CREATED_AT -> Comparator.comparing(QuestionResponse::getCreatedAt);
+        };
+        if (direction.isDescending()) comparator = comparator.reversed();
+
+        int zeroBased = Math.max(page, 1) - 1;
+        List<QuestionResponse> items = questions.stream()
+                .sorted(comparator)
+                .skip((long) zeroBased * size)
+                .limit(size)
+                .toList();
+
+        return pageResponse(
+                items,
+                (long) questions.size(),
+                page,
+                size,
+                (questions.size() + size - 1) / size
+        );
+    }
+
     private Question getOrThrow(UUID assessmentId, UUID questionId) {
         return questionRepository
                 .findByAssessment_AssessmentId_AndQuestionId(assessmentId, questionId)
                 .orElseThrow(() -> new NotFoundException("Question " + questionId + " not found"));
     }
+
+    private Optional<Assessment> findAssessmentForStudent(UUID assessmentId, UUID studentId) {
+        return assessmentRepository.findByIdWithClassInfo(assessmentId)
+                .filter(assessment -> membershipService.isStudentOf(
+                        studentId,
+                        assessment.getClassSubSubjectInstructor().getClassSubSubject().getClazz().getClassId()
+                ));
+    }
 }
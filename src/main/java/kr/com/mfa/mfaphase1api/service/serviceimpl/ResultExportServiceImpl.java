@@ -0,0 +1,186 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import kr.com.mfa.mfaphase1api.client.UserClient;
+import kr.com.mfa.mfaphase1api.exception.InternalException;
+import kr.com.mfa.mfaphase1api.exception.NotFoundException;
+import kr.com.mfa.mfaphase1api.model.dto.request.UserIdsRequest;
+import kr.com.mfa.mfaphase1api.model.dto.response.UserResponse;
+import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
+import kr.com.mfa.mfaphase1api.repository.SubmissionRepository;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
+import kr.com.mfa.mfaphase1api.service.ResultExportService;
+import kr.com.mfa.mfaphase1api.utils.JwtUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * CSV export of published results. Rows are read through a forward-only cursor and written as they
+ * arrive; student details are resolved per chunk, so memory stays flat however large the cohort is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResultExportServiceImpl implements ResultExportService {
+
+    private static final int USER_CHUNK_SIZE = 500;
+    private static final String HEADER = "assessment_id,assessment_title,submission_id,student_id,student_name,"
+            + "student_email,status,score_earned,max_score,submitted_at,graded_at,published_at";
+
+    private final AssessmentRepository assessmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final MembershipService membershipService;
+    private final UserClient userClient;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public StreamingResponseBody exportAssessmentResults(UUID assessmentId) {
+
+        UUID currentUserId = extractCurrentUserId();
+
+        // Checked on the request thread, so an unauthorized caller gets a 404 instead of a truncated file
+        assessmentRepository.findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
+                .orElseThrow(() -> new NotFoundException("Assessment with ID " + assessmentId + " not found"));
+
+        return out -> writeCsv(out, () -> submissionRepository.streamPublishedResultsByAssessmentId(assessmentId));
+    }
+
+    @Override
+    public StreamingResponseBody exportClassResults(UUID classId) {
+
+        UUID currentUserId = extractCurrentUserId();
+
+        if (!membershipService.isInstructorOf(currentUserId, classId)) {
+            throw new NotFoundException("Class with ID " + classId + " not found");
+        }
+
+        // Same scope as the per-assessment results API: only assessments this instructor created
+        return out -> writeCsv(out, () -> submissionRepository.streamPublishedResultsByClassId(classId, currentUserId));
+    }
+
+    private void writeCsv(OutputStream out, Supplier<Stream<SubmissionRepository.ResultExportRow>> rows) {
+
+        // The body is written after the controller returns, so the cursor needs its own read-only transaction
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long startNanos = System.nanoTime();
+
+        Long written = readOnly.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            long count = 0;
+
+            try (Stream<SubmissionRepository.ResultExportRow> stream = rows.get()) {
+                writer.write(HEADER);
+                writer.write('\n');
+
+                Iterator<SubmissionRepository.ResultExportRow> iterator = stream.iterator();
+                List<SubmissionRepository.ResultExportRow> chunk = new ArrayList<>(USER_CHUNK_SIZE);
+
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == USER_CHUNK_SIZE) {
+                        count += writeChunk(writer, chunk);
+                        chunk.clear();
+                    }
+                }
+                count += writeChunk(writer, chunk);
+
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return count;
+        });
+
+        log.info("Exported {} result rows in {} ms", written, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private int writeChunk(Writer writer, List<SubmissionRepository.ResultExportRow> chunk) throws IOException {
+        if (chunk.isEmpty()) return 0;
+
+        Map<UUID, UserResponse> users = fetchUserMap(chunk.stream()
+                .map(SubmissionRepository.ResultExportRow::getStudentId)
+                .distinct()
+                .toList());
+
+        StringBuilder line = new StringBuilder(256);
+        for (SubmissionRepository.ResultExportRow row : chunk) {
+            UserResponse user = users.get(row.getStudentId());
+
+            line.setLength(0);
+            appendField(line, row.getAssessmentId()).append(',');
+            appendField(line, row.getAssessmentTitle()).append(',');
+            appendField(line, row.getSubmissionId()).append(',');
+            appendField(line, row.getStudentId()).append(',');
+            appendField(line, user != null ? buildFullName(user) : null).append(',');
+            appendField(line, user != null ? user.getEmail() : null).append(',');
+            appendField(line, row.getStatus()).append(',');
+            appendField(line, row.getScoreEarned()).append(',');
+            appendField(line, row.getMaxScore()).append(',');
+            appendField(line, row.getSubmittedAt()).append(',');
+            appendField(line, row.getGradedAt()).append(',');
+            appendField(line, row.getPublishedAt()).append('\n');
+
+            writer.append(line);
+        }
+
+        // Hand each chunk to the client as it is produced instead of building up the response
+        writer.flush();
+        return chunk.size();
+    }
+
+    private StringBuilder appendField(StringBuilder line, Object value) {
+        if (value == null) return line;
+
+        String text = value instanceof Instant instant ? instant.toString() : String.valueOf(value);
+
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return line.append(text);
+        }
+        return line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private Map<UUID, UserResponse> fetchUserMap(List<UUID> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        try {
+            List<UserResponse> users = Objects.requireNonNull(
+                    userClient.getAllUserByUserIds(new UserIdsRequest(userIds)).getBody()
+            ).getPayload();
+            return users.stream().collect(Collectors.toMap(UserResponse::getUserId, u -> u, (a, b) -> a));
+        } catch (Exception e) {
+            // Blank name and email columns would pass for a complete file, so the stream is aborted instead
+            log.error("Batch user fetch failed for {} students, aborting the export: {}", userIds.size(), e.getMessage());
+            throw new InternalException("Failed to fetch student details for the export");
+        }
+    }
+
+    private String buildFullName(UserResponse userResponse) {
+        String firstName = userResponse.getFirstName() != null ? userResponse.getFirstName() : "";
+        String lastName = userResponse.getLastName() != null ? userResponse.getLastName() : "";
+        return (firstName + " " + lastName).trim();
+    }
+
+    private UUID extractCurrentUserId() {
+        return UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
+    }
+}
@@ -5,26 +5,32 @@ import kr.com.mfa.mfaphase1api.exception.BadRequestException;
 import kr.com.mfa.mfaphase1api.exception.ConflictException;
 import kr.com.mfa.mfaphase1api.exception.ForbiddenException;
 import kr.com.mfa.mfaphase1api.exception.NotFoundException;
+import kr.com.mfa.mfaphase1api.model.dto.request.UserIdsRequest;
 import kr.com.mfa.mfaphase1api.model.dto.response.*;
-import kr.com.mfa.mfaphase1api.model.entity.Answer;
 import kr.com.mfa.mfaphase1api.model.entity.Assessment;
-import kr.com.mfa.mfaphase1api.model.entity.Question;
 import kr.com.mfa.mfaphase1api.model.entity.Submission;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionProperty;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionSort;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
 import kr.com.mfa.mfaphase1api.model.enums.TimeRange;
 import kr.com.mfa.mfaphase1api.repository.AssessmentRepository;
-import kr.com.mfa.mfaphase1api.repository.FeedbackRepository;
+import kr.com.mfa.mfaphase1api.repository.QuestionRepository;
 import kr.com.mfa.mfaphase1api.repository.SubmissionRepository;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.service.ResultService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
+import kr.com.mfa.mfaphase1api.utils.SubmissionCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,7 +52,9 @@ public class ResultServiceImpl implements ResultService {
     private final SubmissionRepository submissionRepository;
     private final AssessmentRepository assessmentRepository;
     private final UserClient userClient;
-    private final FeedbackRepository feedbackRepository;
+    private final QuestionRepository questionRepository;
+    private final AssessmentStatsService assessmentStatsService;
+    private final MembershipService membershipService;
 
     @Transactional
     @Override
@@ -83,36 +91,49 @@ public class ResultServiceImpl implements ResultService {
             );
         }
 
-        List<Question> questions = submission.getAssessment().getQuestions();
-        List<Answer> answers = submission.getAnswers();
+        // Score totals are already current (answer and question writers apply deltas), so only stamp the grade
+        submissionRepository.updateGradedAt(submissionId, currentUserId, Instant.now());
 
-        BigDecimal maxScore = questions.stream()
-                .map(Question::getPoints)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (!isGraded) {
+            assessmentStatsService.recordGraded(assessmentId);
+        }
+    }
+
+    @Transactional
+    @Override
+    public BulkGradeResponse gradeAllSubmissionResults(UUID assessmentId) {
+
+        UUID currentUserId = extractCurrentUserId();
 
-        Map<UUID, BigDecimal> awardedByQuestionId = answers.stream()
-                .filter(a -> a.getQuestion() != null && a.getQuestion().getQuestionId() != null)
-                .collect(Collectors.toMap(
-                        a -> a.getQuestion().getQuestionId(),
-                        a -> a.getPointsAwarded() == null ? BigDecimal.ZERO : a.getPointsAwarded(),
-                        BigDecimal::add
+        assessmentRepository.findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
+                .orElseThrow(() -> new NotFoundException(
+                        "Assessment with ID " + assessmentId + " not found"
                 ));
 
-        BigDecimal scoreEarned = questions.stream()
-                .map(q -> awardedByQuestionId.getOrDefault(q.getQuestionId(), BigDecimal.ZERO))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal maxScore = questionRepository.sumPointsByAssessmentId(assessmentId);
+        Instant now = Instant.now();
+
+        SubmissionRepository.BulkGradeResult result =
+                submissionRepository.gradeAllSubmitted(assessmentId, currentUserId, now);
 
-        if (scoreEarned.compareTo(maxScore) > 0) {
-            scoreEarned = maxScore;
+        int gradedCount = result.getGradedCount().intValue();
+        int newlyGradedCount = result.getNewlyGradedCount().intValue();
+
+        if (gradedCount == 0) {
+            throw new ConflictException("No submitted results available to grade.");
         }
 
-        submission.setMaxScore(maxScore);
-        submission.setScoreEarned(scoreEarned);
-        submission.setGradedBy(currentUserId);
-        submission.setGradedAt(Instant.now());
+        assessmentStatsService.recordGraded(assessmentId, newlyGradedCount);
+
+        log.info("Graded {} submissions of assessment {} ({} for the first time)", gradedCount, assessmentId, newlyGradedCount);
 
-        submissionRepository.save(submission);
+        return BulkGradeResponse.builder()
+                .assessmentId(assessmentId)
+                .gradedCount(gradedCount)
+                .newlyGradedCount(newlyGradedCount)
+                .maxScore(maxScore)
+                .gradedAt(now)
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -132,8 +153,11 @@ public class ResultServiceImpl implements ResultService {
         Assessment assessment = isInstructor
                 ? assessmentRepository.findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
                 .orElseThrow(() -> new NotFoundException("Assessment with ID " + assessmentId + " not found"))
-                : assessmentRepository.findByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(
-                        assessmentId, currentUserId)
+                : assessmentRepository.findByIdWithClassInfo(assessmentId)
+                .filter(a -> membershipService.isStudentOf(
+                        currentUserId,
+                        a.getClassSubSubjectInstructor().getClassSubSubject().getClazz().getClassId()
+                ))
                 .orElseThrow(() -> new NotFoundException("Assessment with ID " + assessmentId + " not found"));
 
         Submission submission = isInstructor
@@ -169,6 +193,64 @@ public class ResultServiceImpl implements ResultService {
         UUID currentUserId = extractCurrentUserId();
         String role = extractCurrentRole();
 
+        boolean isInstructor = authorizeResultListing(assessmentId, currentUserId, role);
+
+        int zeroBased = Math.max(page, 1) - 1;
+        Pageable pageable = PageRequest.of(zeroBased, size, Sort.by(direction, property.getProperty()));
+
+        // Unpublished rows are excluded in the query, so page sizes and totals only count visible results
+        Page<Submission> pageSubmissions = isInstructor
+                ? submissionRepository.findAllByAssessment_AssessmentIdAndAssessment_CreatedByAndPublishedAtIsNotNull(assessmentId, currentUserId, pageable)
+                : submissionRepository.findAllByAssessment_AssessmentIdAndStudentIdAndPublishedAtIsNotNull(assessmentId, currentUserId, pageable);
+
+        List<SubmissionResponse> items = toResultResponses(pageSubmissions.getContent());
+
+        return pageResponse(
+                items,
+                pageSubmissions.getTotalElements(),
+                page,
+                size,
+                pageSubmissions.getTotalPages()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPagedResponse<List<SubmissionResponse>> getSubmissionResultsByCursor(UUID assessmentId, String cursor, Integer size, SubmissionProperty property, Sort.Direction direction, boolean includeTotal) {
+
+        UUID currentUserId = extractCurrentUserId();
+        String role = extractCurrentRole();
+
+        boolean isInstructor = authorizeResultListing(assessmentId, currentUserId, role);
+
+        ScrollPosition position = SubmissionCursor.decode(cursor, property, direction);
+        Sort sort = SubmissionCursor.sort(property, direction);
+
+        // Unpublished rows are excluded in the query, so every window is full
+        Window<Submission> window = isInstructor
+                ? submissionRepository.findAllByAssessment_AssessmentIdAndPublishedAtIsNotNull(assessmentId, position, sort, Limit.of(size))
+                : submissionRepository.findAllByAssessment_AssessmentIdAndStudentIdAndPublishedAtIsNotNull(assessmentId, currentUserId, position, sort, Limit.of(size));
+
+        Long totalElements = null;
+        if (includeTotal) {
+            totalElements = isInstructor
+                    ? submissionRepository.countByAssessment_AssessmentIdAndPublishedAtIsNotNull(assessmentId)
+                    : submissionRepository.countByAssessment_AssessmentIdAndStudentIdAndPublishedAtIsNotNull(assessmentId, currentUserId);
+        }
+
+        String nextCursor = window.hasNext()
+                ? SubmissionCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1), property, direction)
+                : null;
+
+        return CursorPagedResponse.<List<SubmissionResponse>>builder()
+                .items(toResultResponses(window.getContent()))
+                .nextCursor(nextCursor)
+                .hasNext(window.hasNext())
+                .totalElements(totalElements)
+                .build();
+    }
+
+    private boolean authorizeResultListing(UUID assessmentId, UUID currentUserId, String role) {
         boolean isInstructor = "ROLE_INSTRUCTOR".equals(role);
         boolean isStudent = "ROLE_STUDENT".equals(role);
 
@@ -180,27 +262,25 @@ public class ResultServiceImpl implements ResultService {
             assessmentRepository.findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
                     .orElseThrow(() -> new NotFoundException("Assessment with ID " + assessmentId + " not found"));
         } else {
-            assessmentRepository.findByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(
-                            assessmentId, currentUserId)
+            assessmentRepository.findClassIdByAssessmentId(assessmentId)
+                    .filter(classId -> membershipService.isStudentOf(currentUserId, classId))
                     .orElseThrow(() -> new NotFoundException("Assessment with ID " + assessmentId + " not found"));
         }
 
-        int zeroBased = Math.max(page, 1) - 1;
-        Pageable pageable = PageRequest.of(zeroBased, size, Sort.by(direction, property.getProperty()));
+        return isInstructor;
+    }
 
-        Page<Submission> pageSubmissions = isInstructor
-                ? submissionRepository.findAllByAssessment_AssessmentIdAndAssessment_CreatedBy(assessmentId, currentUserId, pageable)
-                : submissionRepository.findAllByAssessment_AssessmentIdAndStudentId(assessmentId, currentUserId, pageable);
+    private List<SubmissionResponse> toResultResponses(List<Submission> submissions) {
+        List<UUID> studentIds = submissions.stream()
+                .map(Submission::getStudentId)
+                .distinct()
+                .toList();
+        Map<UUID, UserResponse> userMap = fetchUserMap(studentIds);
 
-        List<SubmissionResponse> items = pageSubmissions.stream()
-                .filter(s -> s.getPublishedAt() != null)
+        return submissions.stream()
                 .map(submission -> {
-                    UserResponse userResponse = Optional
-                            .ofNullable(userClient.getUserInfoById(submission.getStudentId()).getBody())
-                            .map(APIResponse::getPayload)
-                            .orElseThrow(() -> new NotFoundException(
-                                    "Student user info not found: " + submission.getStudentId()
-                            ));
+                    UserResponse userResponse = userMap.get(submission.getStudentId());
+                    if (userResponse == null) return submission.toResponse(null);
 
                     StudentResponse studentResponse = StudentResponse.builder()
                             .studentId(userResponse.getUserId())
@@ -212,67 +292,39 @@ public class ResultServiceImpl implements ResultService {
                     return submission.toResponse(studentResponse);
                 })
                 .toList();
-
-        return pageResponse(
-                items,
-                pageSubmissions.getTotalElements(),
-                page,
-                size,
-                pageSubmissions.getTotalPages()
-        );
     }
 
     @Transactional
     @Override
-    public void publishSubmissionResult(UUID assessmentId) {
+    public PublishResultResponse publishSubmissionResult(UUID assessmentId) {
 
         UUID currentUserId = extractCurrentUserId();
 
-        Assessment assessment = assessmentRepository
+        assessmentRepository
                 .findByAssessmentId_AndCreatedBy(assessmentId, currentUserId)
                 .orElseThrow(() -> new NotFoundException(
                         "Assessment with ID " + assessmentId + " not found"
                 ));
 
-        boolean hasAnyToPublish = assessment.getSubmissions().stream()
-                .anyMatch(s ->
-                        s.getPublishedAt() == null &&
-                        (s.getGradedAt() != null || s.getStatus() == SubmissionStatus.MISSED)
-                );
-
-        if (!hasAnyToPublish) {
+        if (!submissionRepository.existsPublishable(assessmentId)) {
             throw new ConflictException("No submissions available to publish.");
         }
 
         Instant now = Instant.now();
 
-        for (Submission submission : assessment.getSubmissions()) {
-
-            if (submission.getPublishedAt() != null) continue;
-
-            SubmissionStatus status = submission.getStatus();
-            boolean isGraded = submission.getGradedAt() != null;
-
-            if (isGraded) {
-                submission.setPublishedAt(now);
-                continue;
-            }
+        // Set-based: ungraded MISSED rows get the question total, then every unpublished row is stamped
+        BigDecimal maxScore = questionRepository.sumPointsByAssessmentId(assessmentId);
+        int missedCount = submissionRepository.updateUnpublishedMissedMaxScore(assessmentId, maxScore);
+        int publishedCount = submissionRepository.publishAll(assessmentId, now);
 
-            if (status == SubmissionStatus.MISSED) {
+        assessmentStatsService.recordPublished(assessmentId, publishedCount);
 
-                List<Question> questions = submission.getAssessment().getQuestions();
-
-                BigDecimal maxScore = questions.stream()
-                        .map(Question::getPoints)
-                        .filter(Objects::nonNull)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                submission.setMaxScore(maxScore);
-                submission.setPublishedAt(now);
-            } else {
-                submission.setPublishedAt(now);
-            }
-        }
+        return PublishResultResponse.builder()
+                .assessmentId(assessmentId)
+                .publishedCount(publishedCount)
+                .missedCount(missedCount)
+                .publishedAt(now)
+                .build();
     }
 
     @Override
@@ -281,66 +333,55 @@ public class ResultServiceImpl implements ResultService {
 
         UUID studentId = extractCurrentUserId();
 
-        List<Submission> all = submissionRepository.findAllByStudentIdAndSubmittedAtIsNotNull(studentId);
+        if (sort == null) sort = SubmissionSort.LATEST_WORK;
 
-        if (all.isEmpty()) {
-            return StudentResponseResultSummary.builder()
-                    .scoreEarned(BigDecimal.ZERO)
-                    .maxScore(BigDecimal.ZERO)
-                    .totalCorrect(0L)
-                    .totalIncorrect(0L)
-                    .totalFeedbacks(0L)
-                    .build();
-        }
+        // Only the anchor's time zone is needed to resolve the range, not the submissions themselves
+        List<String> anchorTimeZones = submissionRepository.findSubmittedTimeZones(studentId, toSort(sort), Limit.of(1));
 
-        Submission anchor = pickAnchor(all, sort);
+        if (anchorTimeZones.isEmpty()) {
+            return emptyResultSummary();
+        }
 
-        ZoneId zone = resolveZoneFromSubmission(anchor);
+        ZoneId zone = resolveZone(anchorTimeZones.getFirst());
 
         Instant[] r = resolveRangeInstant(range, zone);
         Instant start = r[0];
         Instant end = r[1];
 
-        PageRequest one = PageRequest.of(0, 1, toSort(sort));
-
-        List<Submission> picked =
-                submissionRepository.findAllByStudentIdAndSubmittedAtIsNotNullAndPublishedAtIsNotNullAndSubmittedAtBetween(
-                        studentId, start, end, one
-                );
-
-        if (picked.isEmpty()) {
-            return StudentResponseResultSummary.builder()
-                    .scoreEarned(BigDecimal.ZERO)
-                    .maxScore(BigDecimal.ZERO)
-                    .totalCorrect(0L)
-                    .totalIncorrect(0L)
-                    .totalFeedbacks(0L)
-                    .build();
-        }
-
-        Submission submission = picked.getFirst();
-
-        long totalCorrect = submission.getAnswers()
-                .stream()
-                .filter(answer -> answer.getFeedbacks().isEmpty())
-                .count();
-
-        long totalIncorrect = submission.getAnswers()
-                .stream()
-                .filter(answer -> !answer.getFeedbacks().isEmpty())
-                .count();
-
-        long totalFeedbacks = feedbackRepository.countFeedbacksBySubmissionId(submission.getSubmissionId());
+        return submissionRepository.findStudentResultSummary(studentId, start, end, sort.name())
+                .map(summary -> StudentResponseResultSummary.builder()
+                        .scoreEarned(nz(summary.getScoreEarned()))
+                        .maxScore(nz(summary.getMaxScore()))
+                        .totalCorrect(summary.getTotalCorrect())
+                        .totalIncorrect(summary.getTotalIncorrect())
+                        .totalFeedbacks(summary.getTotalFeedbacks())
+                        .build())
+                .orElseGet(this::emptyResultSummary);
+    }
 
+    private StudentResponseResultSummary emptyResultSummary() {
         return StudentResponseResultSummary.builder()
-                .scoreEarned(nz(submission.getScoreEarned()))
-                .maxScore(nz(submission.getMaxScore()))
-                .totalCorrect(totalCorrect)
-                .totalIncorrect(totalIncorrect)
-                .totalFeedbacks(totalFeedbacks)
+                .scoreEarned(BigDecimal.ZERO)
+                .maxScore(BigDecimal.ZERO)
+                .totalCorrect(0L)
+                .totalIncorrect(0L)
+                .totalFeedbacks(0L)
                 .build();
     }
 
+    // One remote call per page instead of one per row
+    private Map<UUID, UserResponse> fetchUserMap(List<UUID> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        try {
+            List<UserResponse> users = Objects.requireNonNull(
+                    userClient.getAllUserByUserIds(new UserIdsRequest(userIds)).getBody()
+            ).getPayload();
+            return users.stream().collect(Collectors.toMap(UserResponse::getUserId, u -> u));
+        } catch (Exception e) {
+            log.warn("Batch user fetch failed, responses will have no user info: {}", e.getMessage());
+            return Map.of();
+        }
+    }
 
     private UUID extractCurrentUserId() {
         return UUID.fromString(Objects.requireNonNull(JwtUtils.getJwt()).getSubject());
@@ -371,30 +412,7 @@ public class ResultServiceImpl implements ResultService {
         return v == null ? BigDecimal.ZERO : v;
     }
 
-    private Instant nzInstant(Instant v) {
-        return v == null ? Instant.EPOCH : v;
-    }
-
-    private Submission pickAnchor(List<Submission> all, SubmissionSort sort) {
-        if (sort == null) sort = SubmissionSort.LATEST_WORK;
-
-        return switch (sort) {
-            case LATEST_WORK -> all.stream()
-                    .max((a, b) -> nzInstant(a.getSubmittedAt()).compareTo(nzInstant(b.getSubmittedAt())))
-                    .orElse(all.getFirst());
-
-            case OLDEST_WORK -> all.stream()
-                    .min((a, b) -> nzInstant(a.getSubmittedAt()).compareTo(nzInstant(b.getSubmittedAt())))
-                    .orElse(all.getFirst());
-
-            case HIGHEST_SCORE -> all.stream()
-                    .max((a, b) -> nz(a.getScoreEarned()).compareTo(nz(b.getScoreEarned())))
-                    .orElse(all.getFirst());
-        };
-    }
-
-    private ZoneId resolveZoneFromSubmission(Submission submission) {
-        String tz = submission.getTimeZone();
+    private ZoneId resolveZone(String tz) {
         if (tz == null || tz.isBlank()) return ZoneId.of("UTC");
 
         try {
@@ -10,19 +10,29 @@ import kr.com.mfa.mfaphase1api.model.entity.*;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionProperty;
 import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
 import kr.com.mfa.mfaphase1api.repository.*;
+import kr.com.mfa.mfaphase1api.service.AnswerDraftService;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import kr.com.mfa.mfaphase1api.service.FileDeletionOutboxService;
 import kr.com.mfa.mfaphase1api.service.FileService;
+import kr.com.mfa.mfaphase1api.service.MembershipService;
 import kr.com.mfa.mfaphase1api.service.SubmissionService;
 import kr.com.mfa.mfaphase1api.utils.JwtUtils;
+import kr.com.mfa.mfaphase1api.utils.SubmissionCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -42,74 +52,73 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final PaperRepository paperRepository;
     private final FileService fileService;
     private final UserClient userClient;
-    private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
+    private final AssessmentStatsService assessmentStatsService;
+    private final MembershipService membershipService;
+    private final FileDeletionOutboxService fileDeletionOutboxService;
+    private final AnswerDraftService answerDraftService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
     public Object startSubmission(UUID assessmentId) {
         UUID currentUserId = extractCurrentUserId();
 
-        Assessment assessment = assessmentRepository
-                .findByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(
-                        assessmentId, currentUserId
-                )
-                .orElseThrow(() -> new NotFoundException("Assessment not found"));
+        Assessment assessment = getAssessmentForStudent(assessmentId, currentUserId);
 
-        Submission existSubmission = submissionRepository
-                .findSubmissionByAssessmentAndStudentId(assessment, currentUserId)
-                .orElse(null);
+        Instant startedAt = Instant.now();
 
-        if (existSubmission != null) {
-            UserResponse userResponse = Objects.requireNonNull(
-                    userClient.getUserInfoById(existSubmission.getStudentId()).getBody()
-            ).getPayload();
+        // Single-statement upsert: concurrent starts for the same student never hit the unique constraint
+        Optional<UUID> insertedId = submissionRepository.insertStartedIfAbsent(
+                UUID.randomUUID(), assessmentId, currentUserId, startedAt, assessment.getTimeZone()
+        );
 
-            StudentResponse studentResponse = StudentResponse.builder()
-                    .studentId(userResponse.getUserId())
-                    .studentEmail(userResponse.getEmail())
-                    .studentName(buildFullName(userResponse))
-                    .profileImage(userResponse.getProfileImage())
-                    .build();
+        if (insertedId.isEmpty()) {
+            Submission existSubmission = submissionRepository
+                    .findSubmissionByAssessmentAndStudentId(assessment, currentUserId)
+                    .orElseThrow(() -> new NotFoundException("Submission not found"));
 
-            return existSubmission.toResponse(studentResponse);
+            return existSubmission.toResponse(buildCurrentStudentResponse(currentUserId));
         }
 
-        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(assessment.getTimeZone()));
-
-        Submission submission = Submission.builder()
-                .status(SubmissionStatus.NOT_SUBMITTED)
-                .maxScore(BigDecimal.ZERO)
-                .scoreEarned(BigDecimal.ZERO)
-                .assessment(assessment)
-                .studentId(currentUserId)
-                .startedAt(now.toInstant())
-                .timeZone(assessment.getTimeZone())
-                .build();
-
-        Submission savedSubmission = submissionRepository.save(submission);
+        assessmentStatsService.recordStarted(assessmentId);
+        assessmentRepository.touchLastSubmissionActivity(assessmentId, startedAt);
 
-        return savedSubmission.getSubmissionId();
+        return insertedId.get();
     }
 
+    // Not @Transactional: storage checks run before the transaction opens, not while it holds a connection
     @Override
-    @Transactional
     public void persistSubmissionPapers(UUID assessmentId, UUID submissionId, List<String> fileNames) {
 
         UUID currentUserId = extractCurrentUserId();
 
+        // Cheap ownership check before fanning out to storage; the transaction below re-validates fully
+        submissionRepository.findBySubmissionId_AndAssessment_AssessmentId(submissionId, assessmentId)
+                .filter(submission -> currentUserId.equals(submission.getStudentId()))
+                .orElseThrow(() -> new NotFoundException("Submission not found"));
+
+        validateFilesExist(fileNames);
+
+        transactionTemplate.executeWithoutResult(status ->
+                replaceSubmissionPapers(assessmentId, currentUserId, fileNames));
+    }
+
+    private void replaceSubmissionPapers(UUID assessmentId, UUID currentUserId, List<String> fileNames) {
+
         Submission submission = getAndValidateSubmission(assessmentId, currentUserId);
 
         List<Paper> existingPapers = paperRepository.findAllBySubmission(submission);
 
-        for (Paper paper : existingPapers) {
-            fileService.deleteFileByFileName(paper.getName());
-        }
+        // Replaced objects are removed in bulk by the purge job once this commits; re-sent names are kept
+        Set<String> keptNames = new HashSet<>(fileNames);
+        fileDeletionOutboxService.enqueue(existingPapers.stream()
+                .map(Paper::getName)
+                .filter(name -> !keptNames.contains(name))
+                .toList());
 
         paperRepository.deleteAllBySubmission(submission);
 
-        validateFilesExist(fileNames);
-
         int startingPage = paperRepository.countPaperBySubmission(submission) + 1;
 
         List<Paper> papers = IntStream.range(0, fileNames.size())
@@ -141,6 +150,12 @@ public class SubmissionServiceImpl implements SubmissionService {
         Submission submission = getAndValidateSubmission(assessmentId, currentUserId);
 
         submissionRepository.delete(submission);
+        assessmentStatsService.recordDeleted(
+                assessmentId,
+                submission.getStatus(),
+                submission.getGradedAt() != null,
+                submission.getPublishedAt() != null
+        );
     }
 
     @Override
@@ -150,9 +165,11 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         Submission submission = getAndValidateSubmission(assessmentId, currentUserId);
 
+        SubmissionStatus previousStatus = submission.getStatus();
         submission.setStatus(SubmissionStatus.NOT_SUBMITTED);
 
         submissionRepository.save(submission);
+        assessmentStatsService.recordStatusChange(assessmentId, previousStatus, SubmissionStatus.NOT_SUBMITTED);
     }
 
     @Override
@@ -163,18 +180,7 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         String currentUserRole = extractCurrentRole();
 
-        boolean authorized = switch (currentUserRole) {
-            case "ROLE_ADMIN" -> assessmentRepository.existsById(assessmentId);
-            case "ROLE_INSTRUCTOR" ->
-                    assessmentRepository.existsAssessmentsByAssessmentId_AndCreatedBy(assessmentId, currentUserId);
-            case "ROLE_STUDENT" -> assessmentRepository
-                    .existsAssessmentsByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(assessmentId, currentUserId);
-            default -> false;
-        };
-
-        if (!authorized) {
-            throw new NotFoundException("Assessment " + assessmentId + " not found.");
-        }
+        authorizeSubmissionListing(assessmentId, currentUserId, currentUserRole);
 
         int zeroBased = Math.max(page, 1) - 1;
         Pageable pageable = PageRequest.of(zeroBased, size, Sort.by(direction, property.getProperty()));
@@ -190,25 +196,7 @@ public class SubmissionServiceImpl implements SubmissionService {
             default -> throw new ForbiddenException("Unsupported role: " + currentUserRole);
         };
 
-        List<UUID> studentIds = pageSubmissions.stream()
-                .map(Submission::getStudentId)
-                .distinct()
-                .toList();
-        Map<UUID, UserResponse> userMap = fetchUserMap(studentIds);
-
-        List<SubmissionResponse> items = pageSubmissions.stream()
-                .map(submission -> {
-                    UserResponse userResponse = userMap.get(submission.getStudentId());
-                    if (userResponse == null) return submission.toResponse(null);
-                    StudentResponse studentResponse = StudentResponse.builder()
-                            .studentId(userResponse.getUserId())
-                            .studentEmail(userResponse.getEmail())
-                            .studentName(buildFullName(userResponse))
-                            .profileImage(userResponse.getProfileImage())
-                            .build();
-                    return submission.toResponse(studentResponse);
-                })
-                .toList();
+        List<SubmissionResponse> items = toResponsesWithStudents(pageSubmissions.getContent());
 
         return pageResponse(
                 items,
@@ -219,6 +207,44 @@ public class SubmissionServiceImpl implements SubmissionService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<List<SubmissionResponse>> getSubmissionsByCursor(UUID assessmentId, String cursor, Integer size, SubmissionProperty property, Sort.Direction direction, boolean includeTotal) {
+
+        UUID currentUserId = extractCurrentUserId();
+
+        String currentUserRole = extractCurrentRole();
+
+        authorizeSubmissionListing(assessmentId, currentUserId, currentUserRole);
+
+        ScrollPosition position = SubmissionCursor.decode(cursor, property, direction);
+        Sort sort = SubmissionCursor.sort(property, direction);
+
+        // Authorization is settled above, so every role seeks within the assessment only
+        boolean isStudent = currentUserRole.equals("ROLE_STUDENT");
+        Window<Submission> window = isStudent
+                ? submissionRepository.findAllByAssessment_AssessmentIdAndStudentId(assessmentId, currentUserId, position, sort, Limit.of(size))
+                : submissionRepository.findAllByAssessment_AssessmentId(assessmentId, position, sort, Limit.of(size));
+
+        Long totalElements = null;
+        if (includeTotal) {
+            totalElements = isStudent
+                    ? submissionRepository.countByAssessment_AssessmentIdAndStudentId(assessmentId, currentUserId)
+                    : submissionRepository.countByAssessment_AssessmentId(assessmentId);
+        }
+
+        String nextCursor = window.hasNext()
+                ? SubmissionCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1), property, direction)
+                : null;
+
+        return CursorPagedResponse.<List<SubmissionResponse>>builder()
+                .items(toResponsesWithStudents(window.getContent()))
+                .nextCursor(nextCursor)
+                .hasNext(window.hasNext())
+                .totalElements(totalElements)
+                .build();
+    }
+
     @Override
     @Transactional
     public void finalizeSubmission(UUID assessmentId, UUID submissionId) {
@@ -230,23 +256,19 @@ public class SubmissionServiceImpl implements SubmissionService {
             throw new ConflictException("Submission has already been submitted for this assessment");
         }
 
+        // Buffered autosaves land before the status flips; placeholders then only fill unanswered questions
+        answerDraftService.flush(submission.getSubmissionId());
+
         SubmissionStatus finalStatus = resolveSubmissionStatus(submission);
 
         ZonedDateTime now = ZonedDateTime.now(ZoneId.of(submission.getAssessment().getTimeZone()));
         submission.setStatus(finalStatus);
         submission.setSubmittedAt(now.toInstant());
         submissionRepository.save(submission);
+        assessmentStatsService.recordStatusChange(assessmentId, SubmissionStatus.NOT_SUBMITTED, finalStatus);
 
-        List<Question> questions = questionRepository.findAllByAssessment_AssessmentId(assessmentId);
-        List<Answer> answers = questions.stream()
-                .map(question -> Answer.builder()
-                        .pointsAwarded(BigDecimal.ZERO)
-                        .question(question)
-                        .submission(submission)
-                        .build())
-                .toList();
-
-        answerRepository.saveAll(answers);
+        answerRepository.insertPlaceholderAnswers(List.of(submission.getSubmissionId()), now.toInstant());
+        answerDraftService.close(submission.getSubmissionId());
     }
 
     private SubmissionStatus resolveSubmissionStatus(Submission submission) {
@@ -268,22 +290,89 @@ public class SubmissionServiceImpl implements SubmissionService {
     }
 
     private void validateFilesExist(List<String> fileNames) {
-        fileNames.forEach(fileService::getFileByFileName);
+        Set<String> missing = fileService.findMissingFiles(fileNames);
+        if (!missing.isEmpty()) {
+            throw new NotFoundException("File not found: " + String.join(", ", missing));
+        }
     }
 
     private Submission getAndValidateSubmission(UUID assessmentId, UUID currentUserId) {
-        Assessment assessment = assessmentRepository.findByAssessmentId_AndClassSubSubjectInstructor_ClassSubSubject_Clazz_StudentClassEnrollments_StudentId(assessmentId, currentUserId)
-                .orElseThrow(() -> new NotFoundException("Assessment not found"));
+        Assessment assessment = getAssessmentForStudent(assessmentId, currentUserId);
 
         return submissionRepository.findSubmissionByAssessmentAndStudentId(assessment, currentUserId)
                 .orElseThrow(() -> new NotFoundException("Submission not found"));
     }
 
+    private Assessment getAssessmentForStudent(UUID assessmentId, UUID studentId) {
+        return assessmentRepository.findByIdWithClassInfo(assessmentId)
+                .filter(assessment -> membershipService.isStudentOf(
+                        studentId,
+                        assessment.getClassSubSubjectInstructor().getClassSubSubject().getClazz().getClassId()
+                ))
+                .orElseThrow(() -> new NotFoundException("Assessment not found"));
+    }
+
     private String extractCurrentRole() {
         List<String> currentUserRole = Objects.requireNonNull(JwtUtils.getJwt()).getClaimAsStringList("roles");
         return currentUserRole.getFirst();
     }
 
+    // The caller is the student, so their profile comes from the token instead of the user service
+    private StudentResponse buildCurrentStudentResponse(UUID currentUserId) {
+        Jwt jwt = Objects.requireNonNull(JwtUtils.getJwt());
+
+        String name = jwt.getClaimAsString("name");
+        if (name == null) {
+            String firstName = jwt.getClaimAsString("given_name");
+            String lastName = jwt.getClaimAsString("family_name");
+            name = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        }
+
+        return StudentResponse.builder()
+                .studentId(currentUserId)
+                .studentEmail(jwt.getClaimAsString("email"))
+                .studentName(name)
+                .build();
+    }
+
+    private void authorizeSubmissionListing(UUID assessmentId, UUID currentUserId, String currentUserRole) {
+        boolean authorized = switch (currentUserRole) {
+            case "ROLE_ADMIN" -> assessmentRepository.existsById(assessmentId);
+            case "ROLE_INSTRUCTOR" ->
+                    assessmentRepository.existsAssessmentsByAssessmentId_AndCreatedBy(assessmentId, currentUserId);
+            case "ROLE_STUDENT" -> assessmentRepository.findClassIdByAssessmentId(assessmentId)
+                    .map(classId -> membershipService.isStudentOf(currentUserId, classId))
+                    .orElse(false);
+            default -> false;
+        };
+
+        if (!authorized) {
+            throw new NotFoundException("Assessment " + assessmentId + " not found.");
+        }
+    }
+
+    private List<SubmissionResponse> toResponsesWithStudents(List<Submission> submissions) {
+        List<UUID> studentIds = submissions.stream()
+                .map(Submission::getStudentId)
+                .distinct()
+                .toList();
+        Map<UUID, UserResponse> userMap = fetchUserMap(studentIds);
+
+        return submissions.stream()
+                .map(submission -> {
+                    UserResponse userResponse = userMap.get(submission.getStudentId());
+                    if (userResponse == null) return submission.toResponse(null);
+                    StudentResponse studentResponse = StudentResponse.builder()
+                            .studentId(userResponse.getUserId())
+                            .studentEmail(userResponse.getEmail())
+                            .studentName(buildFullName(userResponse))
+                            .profileImage(userResponse.getProfileImage())
+                            .build();
+                    return submission.toResponse(studentResponse);
+                })
+                .toList();
+    }
+
     private String buildFullName(UserResponse userResponse) {
         String firstName = userResponse.getFirstName() != null ? userResponse.getFirstName() : "";
         String lastName = userResponse.getLastName() != null ? userResponse.getLastName() : "";
@@ -0,0 +1,85 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import kr.com.mfa.mfaphase1api.client.UserClient;
+import kr.com.mfa.mfaphase1api.model.dto.response.APIResponse;
+import kr.com.mfa.mfaphase1api.model.enums.BaseRole;
+import kr.com.mfa.mfaphase1api.service.UserCountService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * User counts per base role. A stale count is served while a background refresh runs, so only the first
+ * load after start-up (or a long idle period) waits on the network.
+ * <p>
+ * The user service has no count endpoint, so a count is the size of the {@code /base-role} listing; caching
+ * it keeps that download to one per role per refresh interval.
+ */
+@Slf4j
+@Service
+public class UserCountServiceImpl implements UserCountService {
+
+    static final Duration REFRESH_AFTER = Duration.ofMinutes(5);
+    static final Duration EXPIRE_AFTER = Duration.ofHours(1);
+
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final UserClient userClient;
+
+    private final LoadingCache<BaseRole, Long> counts;
+
+    @Autowired
+    public UserCountServiceImpl(UserClient userClient) {
+        // The refresh is submitted from the reading thread; carry its security context so Feign can authenticate
+        this(userClient, Ticker.systemTicker(), new DelegatingSecurityContextExecutor(REFRESH_EXECUTOR));
+    }
+
+    // Clock and executor are swappable so tests can drive refreshes deterministically
+    UserCountServiceImpl(UserClient userClient, Ticker ticker, Executor executor) {
+        this.userClient = userClient;
+        this.counts = Caffeine.newBuilder()
+                .refreshAfterWrite(REFRESH_AFTER)
+                .expireAfterWrite(EXPIRE_AFTER)
+                .ticker(ticker)
+                .executor(executor)
+                .build(this::fetchCount);
+    }
+
+    @Override
+    public long countByRole(BaseRole role) {
+        try {
+            return counts.get(role);
+        } catch (RuntimeException e) {
+            log.warn("User count for role {} unavailable: {}", role, e.getMessage());
+            return 0L;
+        }
+    }
+
+    // Throws rather than returning a placeholder, so a failed refresh keeps the last known count
+    private Long fetchCount(BaseRole role) {
+        List<?> users = payloadOf(userClient.getAllUsersBaseRole(role));
+        if (users == null) {
+            throw new IllegalStateException("User service returned no users for role " + role);
+        }
+        return (long) users.size();
+    }
+
+    // Fallback responses carry placeholder payloads (an empty list reads as zero users), so only 2xx bodies count
+    private <T> T payloadOf(ResponseEntity<APIResponse<T>> response) {
+        if (response == null || !response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            return null;
+        }
+        return response.getBody().getPayload();
+    }
+}
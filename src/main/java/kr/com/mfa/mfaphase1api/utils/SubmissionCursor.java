@@ -0,0 +1,112 @@
+package kr.com.mfa.mfaphase1api.utils;
+
+import kr.com.mfa.mfaphase1api.exception.BadRequestException;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionProperty;
+import kr.com.mfa.mfaphase1api.model.enums.SubmissionStatus;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor over submissions: the sort key of the last row plus its submissionId as tie-breaker.
+ * Only non-null sort keys are supported, since a keyset comparison cannot seek past NULLs.
+ */
+public final class SubmissionCursor {
+
+    private static final String VERSION = "v1";
+    private static final String ID_PROPERTY = SubmissionProperty.SUBMISSION_ID.getProperty();
+
+    private SubmissionCursor() {
+    }
+
+    public static Sort sort(SubmissionProperty property, Sort.Direction direction) {
+        requireSupported(property);
+
+        if (property == SubmissionProperty.SUBMISSION_ID) {
+            return Sort.by(direction, ID_PROPERTY);
+        }
+        return Sort.by(direction, property.getProperty(), ID_PROPERTY);
+    }
+
+    public static ScrollPosition decode(String cursor, SubmissionProperty property, Sort.Direction direction) {
+        requireSupported(property);
+
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Malformed cursor");
+        }
+
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new BadRequestException("Malformed cursor");
+        }
+        if (!property.name().equals(parts[1]) || !direction.name().equals(parts[2])) {
+            throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (property != SubmissionProperty.SUBMISSION_ID) {
+                keys.put(property.getProperty(), parseValue(property, parts[3]));
+            }
+            keys.put(ID_PROPERTY, UUID.fromString(parts[4]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Malformed cursor");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(KeysetScrollPosition position, SubmissionProperty property, Sort.Direction direction) {
+        Map<String, ?> keys = position.getKeys();
+
+        String sortValue = property == SubmissionProperty.SUBMISSION_ID
+                ? ""
+                : formatValue(keys.get(property.getProperty()));
+
+        String raw = String.join("|",
+                VERSION,
+                property.name(),
+                direction.name(),
+                sortValue,
+                String.valueOf(keys.get(ID_PROPERTY))
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void requireSupported(SubmissionProperty property) {
+        switch (property) {
+            case SUBMISSION_ID, STATUS, MAX_SCORE, SCORE_EARNED, STARTED_AT -> {
+            }
+            default -> throw new BadRequestException("Cursor pagination does not support sorting by " + property);
+        }
+    }
+
+    private static Object parseValue(SubmissionProperty property, String value) {
+        return switch (property) {
+            case STATUS -> SubmissionStatus.valueOf(value);
+            case MAX_SCORE, SCORE_EARNED -> new BigDecimal(value);
+            case STARTED_AT -> Instant.parse(value);
+            default -> throw new BadRequestException("Cursor pagination does not support sorting by " + property);
+        };
+    }
+
+    private static String formatValue(Object value) {
+        if (value instanceof Enum<?> e) return e.name();
+        if (value instanceof BigDecimal d) return d.toPlainString();
+        return String.valueOf(value);
+    }
+}
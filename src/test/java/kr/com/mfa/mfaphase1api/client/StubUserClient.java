@@ -0,0 +1,87 @@
+package kr.com.mfa.mfaphase1api.client;
+
+import kr.com.mfa.mfaphase1api.model.dto.request.UserIdsRequest;
+import kr.com.mfa.mfaphase1api.model.dto.response.APIResponse;
+import kr.com.mfa.mfaphase1api.model.dto.response.UserResponse;
+import kr.com.mfa.mfaphase1api.model.enums.BaseRole;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in for the user service. Replaces the Feign client under the {@code test} profile and
+ * can be used directly in unit tests.
+ */
+@Primary
+@Component
+@Profile("test")
+public class StubUserClient implements UserClient {
+
+    private final Map<UUID, UserResponse> users = new ConcurrentHashMap<>();
+    private final Map<BaseRole, Integer> roleCounts = new ConcurrentHashMap<>();
+
+    private volatile boolean available = true;
+
+    private final AtomicInteger listCalls = new AtomicInteger();
+
+    public void addUser(UserResponse user) {
+        users.put(user.getUserId(), user);
+    }
+
+    public void setRoleCount(BaseRole baseRole, int count) {
+        roleCounts.put(baseRole, count);
+    }
+
+    // Simulates the user service being down: every call answers like the Feign fallback
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public int getListCalls() {
+        return listCalls.get();
+    }
+
+    @Override
+    public ResponseEntity<APIResponse<UserResponse>> getUserInfoById(UUID userId) {
+        if (!available) return unavailable(null);
+        UserResponse user = users.get(userId);
+        return user == null ? respond(HttpStatus.NOT_FOUND, null) : respond(HttpStatus.OK, user);
+    }
+
+    @Override
+    public ResponseEntity<APIResponse<List<UserResponse>>> getAllUserByUserIds(UserIdsRequest request) {
+        if (!available) return unavailable(Collections.emptyList());
+        return respond(HttpStatus.OK, request.getUserIds().stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    public ResponseEntity<APIResponse<List<?>>> getAllUsersBaseRole(BaseRole baseRole) {
+        listCalls.incrementAndGet();
+        if (!available) return unavailable(Collections.emptyList());
+        return respond(HttpStatus.OK, Collections.nCopies(roleCounts.getOrDefault(baseRole, 0), new Object()));
+    }
+
+    private <T> ResponseEntity<APIResponse<T>> unavailable(T payload) {
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, payload);
+    }
+
+    private <T> ResponseEntity<APIResponse<T>> respond(HttpStatus status, T payload) {
+        return ResponseEntity.status(status)
+                .body(APIResponse.<T>builder()
+                        .message(status.getReasonPhrase())
+                        .payload(payload)
+                        .instant(Instant.now())
+                        .status(status)
+                        .build());
+    }
+}
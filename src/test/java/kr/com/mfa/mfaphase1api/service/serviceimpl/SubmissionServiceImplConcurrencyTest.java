@@ -0,0 +1,251 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import kr.com.mfa.mfaphase1api.client.UserClient;
+import kr.com.mfa.mfaphase1api.configuration.CacheConfig;
+import kr.com.mfa.mfaphase1api.model.dto.response.SubmissionResponse;
+import kr.com.mfa.mfaphase1api.model.entity.*;
+import kr.com.mfa.mfaphase1api.model.entity.Class;
+import kr.com.mfa.mfaphase1api.model.enums.AssessmentStatus;
+import kr.com.mfa.mfaphase1api.model.enums.AssessmentType;
+import kr.com.mfa.mfaphase1api.repository.*;
+import kr.com.mfa.mfaphase1api.service.AnswerDraftService;
+import kr.com.mfa.mfaphase1api.service.AssessmentStatsService;
+import kr.com.mfa.mfaphase1api.service.FileDeletionOutboxService;
+import kr.com.mfa.mfaphase1api.service.FileService;
+import kr.com.mfa.mfaphase1api.service.SubmissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires concurrent {@link SubmissionService#startSubmission(UUID)} calls against a real PostgreSQL and
+ * Redis: the guarantee rests on the ON CONFLICT upsert and on the Redis-buffered start counter.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(RedisAutoConfiguration.class)
+@Import({
+        CacheConfig.class,
+        SubmissionServiceImpl.class,
+        AssessmentStatsServiceImpl.class,
+        MembershipServiceImpl.class
+})
+@ActiveProfiles("test")
+@Testcontainers
+// Every start commits on its own, as it does behind the controller
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SubmissionServiceImplConcurrencyTest {
+
+    private static final int PARALLEL_STARTS = 1_000;
+    private static final int THREADS = 32;
+    // Generous for a shared CI runner; starts serialized on a hot row would land far above it
+    private static final Duration P99_BOUND = Duration.ofSeconds(2);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    // Registered by @EnableFeignClients, but the JPA slice has no Feign infrastructure to build it
+    @MockitoBean
+    private UserClient userClient;
+    @MockitoBean
+    private FileService fileService;
+    @MockitoBean
+    private FileDeletionOutboxService fileDeletionOutboxService;
+    @MockitoBean
+    private AnswerDraftService answerDraftService;
+
+    @Autowired
+    private SubmissionService submissionService;
+    @Autowired
+    private AssessmentStatsService assessmentStatsService;
+    @Autowired
+    private SubmissionRepository submissionRepository;
+    @Autowired
+    private AssessmentStatsRepository assessmentStatsRepository;
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+    @Autowired
+    private StudentClassEnrollmentRepository studentClassEnrollmentRepository;
+    @Autowired
+    private ClassSubSubjectInstructorRepository classSubSubjectInstructorRepository;
+    @Autowired
+    private ClassSubSubjectRepository classSubSubjectRepository;
+    @Autowired
+    private ClassRepository classRepository;
+    @Autowired
+    private SubSubjectRepository subSubjectRepository;
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    private Class clazz;
+    private Assessment assessment;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        Subject subject = subjectRepository.save(Subject.builder().name("Subject " + suffix).build());
+        SubSubject subSubject = subSubjectRepository.save(SubSubject.builder()
+                .name("Sub-subject " + suffix)
+                .subject(subject)
+                .build());
+        clazz = classRepository.save(Class.builder().name("Class " + suffix).code(suffix).build());
+        ClassSubSubject classSubSubject = classSubSubjectRepository.save(ClassSubSubject.builder()
+                .clazz(clazz)
+                .subSubject(subSubject)
+                .build());
+        UUID instructorId = UUID.randomUUID();
+        ClassSubSubjectInstructor classSubSubjectInstructor = classSubSubjectInstructorRepository.save(
+                ClassSubSubjectInstructor.builder()
+                        .instructorId(instructorId)
+                        .classSubSubject(classSubSubject)
+                        .build());
+
+        assessment = assessmentRepository.save(Assessment.builder()
+                .title("Concurrent starts")
+                .status(AssessmentStatus.STARTED)
+                .assessmentType(AssessmentType.EXAM)
+                .timeZone("Asia/Seoul")
+                .classSubSubjectInstructor(classSubSubjectInstructor)
+                .createdBy(instructorId)
+                .build());
+    }
+
+    @Test
+    void concurrentStartsForOneStudentCreateOneSubmission() throws Exception {
+        UUID studentId = enrol(UUID.randomUUID());
+        UUID assessmentId = assessment.getAssessmentId();
+
+        List<StartResult> results = startConcurrently(Collections.nCopies(PARALLEL_STARTS, studentId));
+        assessmentStatsService.flushPendingStarted();
+
+        List<Submission> rows = submissionRepository.findAll().stream()
+                .filter(submission -> studentId.equals(submission.getStudentId()))
+                .toList();
+
+        assertThat(rows).hasSize(1);
+        assertThat(results.stream().map(StartResult::submissionId).collect(Collectors.toSet()))
+                .containsExactly(rows.getFirst().getSubmissionId());
+        assertThat(assessmentStatsRepository.findById(assessmentId))
+                .get()
+                .extracting(AssessmentStats::getTotalStarted)
+                .isEqualTo(1L);
+        assertThat(p99(results)).isLessThan(P99_BOUND);
+    }
+
+    @Test
+    void concurrentStartsForDifferentStudentsAreAllCounted() throws Exception {
+        UUID assessmentId = assessment.getAssessmentId();
+        List<UUID> studentIds = Stream.generate(UUID::randomUUID).limit(PARALLEL_STARTS).map(this::enrol).toList();
+
+        List<StartResult> results = startConcurrently(studentIds);
+        assessmentStatsService.flushPendingStarted();
+
+        Set<UUID> rowIds = submissionRepository.findAll().stream()
+                .filter(submission -> studentIds.contains(submission.getStudentId()))
+                .map(Submission::getSubmissionId)
+                .collect(Collectors.toSet());
+
+        assertThat(rowIds)
+                .hasSize(PARALLEL_STARTS)
+                .isEqualTo(results.stream().map(StartResult::submissionId).collect(Collectors.toSet()));
+        assertThat(assessmentStatsRepository.findById(assessmentId))
+                .get()
+                .extracting(AssessmentStats::getTotalStarted)
+                .isEqualTo((long) PARALLEL_STARTS);
+        assertThat(p99(results)).isLessThan(P99_BOUND);
+    }
+
+    private UUID enrol(UUID studentId) {
+        studentClassEnrollmentRepository.save(StudentClassEnrollment.builder()
+                .studentId(studentId)
+                .clazz(clazz)
+                .build());
+        return studentId;
+    }
+
+    private List<StartResult> startConcurrently(List<UUID> studentIds) throws Exception {
+        UUID assessmentId = assessment.getAssessmentId();
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Future<StartResult>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (UUID studentId : studentIds) {
+                futures.add(executor.submit(() -> {
+                    gate.await();
+                    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwtFor(studentId)));
+                    try {
+                        long startNanos = System.nanoTime();
+                        Object started = submissionService.startSubmission(assessmentId);
+                        return new StartResult(submissionIdOf(started), Duration.ofNanos(System.nanoTime() - startNanos));
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            gate.countDown();
+        }
+
+        List<StartResult> results = new ArrayList<>();
+        for (Future<StartResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    // The caller that inserts gets the new id; everyone else gets the existing submission
+    private static UUID submissionIdOf(Object started) {
+        return started instanceof SubmissionResponse response ? response.getSubmissionId() : (UUID) started;
+    }
+
+    private static Duration p99(List<StartResult> results) {
+        List<Duration> sorted = results.stream().map(StartResult::duration).sorted().toList();
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+
+    private static Jwt jwtFor(UUID studentId) {
+        return Jwt.withTokenValue("test-token")
+                .header("alg", "none")
+                .subject(studentId.toString())
+                .claim("name", "Student " + studentId)
+                .claim("roles", List.of("ROLE_STUDENT"))
+                .build();
+    }
+
+    private record StartResult(UUID submissionId, Duration duration) {
+    }
+}
@@ -0,0 +1,74 @@
+package kr.com.mfa.mfaphase1api.service.serviceimpl;
+
+import kr.com.mfa.mfaphase1api.client.StubUserClient;
+import kr.com.mfa.mfaphase1api.model.enums.BaseRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCountServiceImplTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private StubUserClient userClient;
+    private UserCountServiceImpl userCountService;
+
+    @BeforeEach
+    void setUp() {
+        userClient = new StubUserClient();
+        userClient.setRoleCount(BaseRole.ROLE_STUDENT, 120);
+        userClient.setRoleCount(BaseRole.ROLE_INSTRUCTOR, 7);
+
+        // Same-thread executor: a triggered refresh has completed by the time the read returns
+        userCountService = new UserCountServiceImpl(userClient, nanos::get, Runnable::run);
+    }
+
+    @Test
+    void countsComeFromTheUserListingAndAreCached() {
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isEqualTo(120);
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isEqualTo(120);
+
+        assertThat(userClient.getListCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void staleCountIsRefreshedInTheBackground() {
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isEqualTo(120);
+
+        userClient.setRoleCount(BaseRole.ROLE_STUDENT, 125);
+        advance(UserCountServiceImpl.REFRESH_AFTER.plusSeconds(1));
+
+        // The read that finds the entry stale triggers the refresh but is answered from the cache
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isEqualTo(120);
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isEqualTo(125);
+        assertThat(userClient.getListCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRefreshKeepsTheLastKnownCount() {
+        assertThat(userCountService.countByRole(BaseRole.ROLE_INSTRUCTOR)).isEqualTo(7);
+
+        userClient.setAvailable(false);
+        advance(UserCountServiceImpl.REFRESH_AFTER.plusSeconds(1));
+
+        assertThat(userCountService.countByRole(BaseRole.ROLE_INSTRUCTOR)).isEqualTo(7);
+        assertThat(userCountService.countByRole(BaseRole.ROLE_INSTRUCTOR)).isEqualTo(7);
+    }
+
+    @Test
+    void unavailableUserServiceIsNotCachedAsZero() {
+        userClient.setAvailable(false);
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isZero();
+
+        userClient.setAvailable(true);
+        assertThat(userCountService.countByRole(BaseRole.ROLE_STUDENT)).isEqualTo(120);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}